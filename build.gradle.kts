@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.7"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "run.prizm"
@@ -75,8 +76,17 @@ dependencies {
     // --- Test ---
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // --- Benchmark (./gradlew jmh) ---
+    jmh("org.springframework:spring-test")
 }
 
 tasks.named<Test>("test") {
     useJUnitPlatform()
 }
+
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
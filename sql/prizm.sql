@@ -121,16 +121,17 @@ CREATE TABLE categories (
 ----------------------------------------------------------------------------------------------------
 
 CREATE TABLE channels (
-    id           BIGINT         NOT NULL PRIMARY KEY,
-    workspace_id BIGINT         NOT NULL REFERENCES workspaces (id),
-    category_id  BIGINT         NULL REFERENCES categories (id),
-    type         TEXT           NOT NULL,
-    name         TEXT           NOT NULL,
-    description  TEXT           NULL,
-    z_index      NUMERIC(10, 5) NOT NULL,
-    created_at   TIMESTAMPTZ    NOT NULL,
-    updated_at   TIMESTAMPTZ    NOT NULL,
-    deleted_at   TIMESTAMPTZ    NULL
+    id             BIGINT         NOT NULL PRIMARY KEY,
+    workspace_id   BIGINT         NOT NULL REFERENCES workspaces (id),
+    category_id    BIGINT         NULL REFERENCES categories (id),
+    type           TEXT           NOT NULL,
+    name           TEXT           NOT NULL,
+    description    TEXT           NULL,
+    z_index        NUMERIC(10, 5) NOT NULL,
+    auto_translate BOOLEAN        NOT NULL DEFAULT FALSE,
+    created_at     TIMESTAMPTZ    NOT NULL,
+    updated_at     TIMESTAMPTZ    NOT NULL,
+    deleted_at     TIMESTAMPTZ    NULL
 );
 
 ----------------------------------------------------------------------------------------------------
@@ -186,6 +187,8 @@ CREATE TABLE messages (
     deleted_at        TIMESTAMPTZ NULL
 );
 
+CREATE INDEX ix_messages_channel_id_id_active ON messages (channel_id, id DESC) WHERE deleted_at IS NULL;
+
 ----------------------------------------------------------------------------------------------------
 
 CREATE TABLE message_emojis (
@@ -208,4 +211,13 @@ CREATE TABLE message_translations (
     created_at TIMESTAMPTZ NOT NULL
 );
 
-CREATE UNIQUE INDEX uq_message_translations_message_id_language ON message_translations (message_id, language);
\ No newline at end of file
+CREATE UNIQUE INDEX uq_message_translations_message_id_language ON message_translations (message_id, language);
+
+----------------------------------------------------------------------------------------------------
+
+CREATE TABLE message_outbox (
+    id          BIGINT      NOT NULL PRIMARY KEY,
+    routing_key TEXT        NOT NULL,
+    payload     TEXT        NOT NULL,
+    created_at  TIMESTAMPTZ NOT NULL
+);
\ No newline at end of file
@@ -0,0 +1,87 @@
+package run.prizm.core.message.codec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import run.prizm.core.config.RabbitConfig;
+import run.prizm.core.message.constraint.MessageType;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.properties.ChatCodecProperties;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chat.exchange 메시지 이벤트 인코딩 / 디코딩 벤치마크
+ * RabbitConfig.messageConverter 가 만드는 실제 변환기를 JSON / BINARY 설정으로 각각 만들어 비교한다.
+ * (JSON 은 Hibernate6Module, JavaTimeModule 이 등록된 Jackson2JsonMessageConverter 경로)
+ * contentLength 로 짧은 채팅과 긴 본문을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageEventCodecBenchmark {
+
+    @Param({"32", "4096"})
+    public int contentLength;
+
+    private MessageConverter jsonConverter;
+    private MessageConverter binaryConverter;
+    private MessageResponse message;
+    private Message jsonMessage;
+    private Message binaryMessage;
+
+    @Setup
+    public void setUp() {
+        jsonConverter = converter(ChatCodecProperties.Format.JSON);
+        binaryConverter = converter(ChatCodecProperties.Format.BINARY);
+        message = MessageResponse.builder()
+                                 .id(1_234_567_890_123L)
+                                 .channelId(42L)
+                                 .workspaceUserId(7L)
+                                 .userId("1001")
+                                 .username("프리즘 사용자")
+                                 .userAvatar("workspace-profiles/3f2a9c.png")
+                                 .type(MessageType.TEXT)
+                                 .content("메시지 본문 ".repeat(contentLength / 7 + 1)
+                                                   .substring(0, contentLength))
+                                 .createdAt(Instant.now())
+                                 .build();
+        jsonMessage = jsonConverter.toMessage(message, new MessageProperties());
+        binaryMessage = binaryConverter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message encodeBinary() {
+        return binaryConverter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message encodeJson() {
+        return jsonConverter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return binaryConverter.fromMessage(binaryMessage);
+    }
+
+    @Benchmark
+    public Object decodeJson() {
+        return jsonConverter.fromMessage(jsonMessage);
+    }
+
+    private static MessageConverter converter(ChatCodecProperties.Format format) {
+        ChatCodecProperties properties = new ChatCodecProperties();
+        properties.setFormat(format);
+        return new RabbitConfig().messageConverter(properties);
+    }
+}
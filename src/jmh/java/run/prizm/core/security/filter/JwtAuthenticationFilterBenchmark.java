@@ -0,0 +1,99 @@
+package run.prizm.core.security.filter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import run.prizm.core.properties.AuthProperties;
+import run.prizm.core.security.jwt.JwtService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 벤치마크
+ * cachedToken: 같은 토큰 반복 (검증 캐시 적중), uncachedToken: 캐시 크기보다 많은 토큰 순환 (매번 서명 검증),
+ * rebuildKeyAndParser: 요청마다 키와 파서를 만들던 이전 방식의 검증 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final int DISTINCT_TOKENS = 4096;
+    private static final int CACHE_SIZE = 64;
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtService cachedService = new JwtService(authProperties(10_000), new SimpleMeterRegistry());
+        JwtService uncachedService = new JwtService(authProperties(CACHE_SIZE), new SimpleMeterRegistry());
+        cachedFilter = new JwtAuthenticationFilter(cachedService);
+        uncachedFilter = new JwtAuthenticationFilter(uncachedService);
+
+        token = cachedService.generateAccessToken(1L, "USER");
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = uncachedService.generateAccessToken((long) i, "USER");
+        }
+    }
+
+    @Benchmark
+    public Object cachedToken() throws Exception {
+        return filter(cachedFilter, token);
+    }
+
+    @Benchmark
+    public Object uncachedToken() throws Exception {
+        String current = tokens[next];
+        next = (next + 1) % DISTINCT_TOKENS;
+        return filter(uncachedFilter, current);
+    }
+
+    @Benchmark
+    public Object rebuildKeyAndParser() {
+        return Jwts.parser()
+                   .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                   .build()
+                   .parseSignedClaims(token)
+                   .getPayload();
+    }
+
+    private Object filter(JwtAuthenticationFilter filter, String bearer) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + bearer);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object userId = request.getAttribute("userId");
+        SecurityContextHolder.clearContext();
+        return userId;
+    }
+
+    private static AuthProperties authProperties(int verifiedTokenCacheSize) {
+        AuthProperties properties = new AuthProperties();
+        properties.getJwt()
+                  .setSecret(SECRET);
+        properties.getJwt()
+                  .setAccessTokenExpiration(3_600_000L);
+        properties.getJwt()
+                  .setRefreshTokenExpiration(86_400_000L);
+        properties.getJwt()
+                  .setVerifiedTokenCacheSize(verifiedTokenCacheSize);
+        return properties;
+    }
+}
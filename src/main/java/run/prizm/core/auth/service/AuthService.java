@@ -10,7 +10,9 @@ import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 import run.prizm.core.security.cookie.CookieService;
 import run.prizm.core.security.jwt.JwtService;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshotCache;
 import run.prizm.core.storage.redis.RefreshTokenCacheRepository;
+import run.prizm.core.user.cache.UserSnapshotCache;
 import run.prizm.core.user.entity.User;
 import run.prizm.core.user.repository.UserRepository;
 
@@ -24,6 +26,8 @@ public class AuthService {
     private final CookieService cookieService;
     private final RefreshTokenCacheRepository refreshTokenCacheRepository;
     private final UserRepository userRepository;
+    private final WorkspaceUserSnapshotCache workspaceUserSnapshotCache;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Transactional
     public TokenRefreshResponse refresh(HttpServletRequest request, HttpServletResponse response) {
@@ -71,6 +75,8 @@ public class AuthService {
 
         user.setDeletedAt(Instant.now());
         userRepository.save(user);
+        workspaceUserSnapshotCache.invalidateUser(userId);
+        userSnapshotCache.invalidate(userId);
 
         String refreshToken = cookieService.extractRefreshTokenFromCookies(request);
         if (refreshToken != null) {
@@ -46,6 +46,10 @@ public enum ErrorCode {
     INVALID_LANGUAGE_CODE(HttpStatus.BAD_REQUEST, "T001", "Invalid language code"),
     TRANSLATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "T002", "Translation failed"),
 
+    AI_SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI001", "Too many pending AI requests"),
+    AI_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI002", "AI service unavailable"),
+    DOCUMENT_ANALYSIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI003", "Document analysis failed"),
+
     CACHE_OPERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "R001", "Cache operation failed"),
 
     INVALID_POSITION(HttpStatus.BAD_REQUEST, "P001", "Invalid position"),
@@ -81,4 +81,11 @@ public class ImageUploadHelper {
         }
         return s3Service.getFileUrl(file.getPath());
     }
+
+    public String getImageUrl(String path) {
+        if (path == null) {
+            return null;
+        }
+        return s3Service.getFileUrl(path);
+    }
 }
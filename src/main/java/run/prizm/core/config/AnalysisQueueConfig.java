@@ -0,0 +1,150 @@
+package run.prizm.core.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import run.prizm.core.properties.AnalysisQueueProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 문서 분석 작업 큐
+ * analysis.queue 의 작업이 실패하면 시도 횟수별 지연 큐(analysis.retry.{지연ms})에서 TTL 만큼 머문 뒤 다시 analysis.queue 로,
+ * 재시도를 모두 쓰거나 재시도할 수 없는 실패는 analysis.dlq 로 보낸다.
+ * 워크스페이스 한도로 미룬 작업은 analysis.defer.{지연ms} 를 거쳐 돌아온다.
+ * 지연 큐 이름과 routing key 에 TTL 을 함께 넣어, 설정을 바꿔도 기존 큐 인자와 충돌하지 않고
+ * 이전 설정으로 만든 큐가 같은 key 에 남아 작업을 중복으로 받지 않게 한다.
+ * 진행 상태 이벤트는 analysis.status fanout 으로 모든 노드에 전달되어 각 노드의 채널 구독자에게 전송된다.
+ */
+@Configuration
+public class AnalysisQueueConfig {
+
+    public static final String ANALYSIS_EXCHANGE_NAME = "analysis.exchange";
+    public static final String ANALYSIS_QUEUE_NAME = "analysis.queue";
+    public static final String STATUS_EXCHANGE_NAME = "analysis.status";
+    public static final String JOB_ROUTING_KEY = "analysis.job";
+    public static final String DEAD_ROUTING_KEY = "analysis.dead";
+    public static final String LISTENER_CONTAINER_FACTORY = "analysisListenerContainerFactory";
+    private static final String DEAD_LETTER_QUEUE_NAME = "analysis.dlq";
+    private static final String RETRY_QUEUE_PREFIX = "analysis.retry.";
+    private static final String DEFER_QUEUE_PREFIX = "analysis.defer.";
+    private static final String STATUS_NODE_QUEUE_PREFIX = "analysis.status.node.";
+
+    /**
+     * 재시도 지연 큐의 routing key (큐 이름과 같음)
+     */
+    public static String retryRoutingKey(Duration delay) {
+        return RETRY_QUEUE_PREFIX + delay.toMillis();
+    }
+
+    /**
+     * 워크스페이스 한도로 미룬 작업의 지연 큐 routing key (큐 이름과 같음)
+     */
+    public static String deferRoutingKey(Duration delay) {
+        return DEFER_QUEUE_PREFIX + delay.toMillis();
+    }
+
+    @Bean
+    public DirectExchange analysisExchange() {
+        return new DirectExchange(ANALYSIS_EXCHANGE_NAME, true, false);
+    }
+
+    // 변환 실패 등으로 거절된 작업도 버리지 않고 dead-letter 큐로
+    @Bean
+    public Queue analysisQueue() {
+        return QueueBuilder.durable(ANALYSIS_QUEUE_NAME)
+                           .deadLetterExchange(ANALYSIS_EXCHANGE_NAME)
+                           .deadLetterRoutingKey(DEAD_ROUTING_KEY)
+                           .build();
+    }
+
+    @Bean
+    public Binding analysisBinding(Queue analysisQueue, DirectExchange analysisExchange) {
+        return BindingBuilder.bind(analysisQueue)
+                             .to(analysisExchange)
+                             .with(JOB_ROUTING_KEY);
+    }
+
+    @Bean
+    public Queue analysisDeadLetterQueue() {
+        return QueueBuilder.durable(DEAD_LETTER_QUEUE_NAME)
+                           .build();
+    }
+
+    @Bean
+    public Binding analysisDeadLetterBinding(Queue analysisDeadLetterQueue, DirectExchange analysisExchange) {
+        return BindingBuilder.bind(analysisDeadLetterQueue)
+                             .to(analysisExchange)
+                             .with(DEAD_ROUTING_KEY);
+    }
+
+    @Bean
+    public Declarables analysisDelayQueues(DirectExchange analysisExchange, AnalysisQueueProperties properties) {
+        List<Declarable> declarables = new ArrayList<>();
+        // 같은 지연이 여러 번 나오면 큐 하나를 함께 쓴다
+        new LinkedHashSet<>(properties.getRetryBackoffs())
+                .forEach(delay -> addDelayQueue(declarables, analysisExchange, retryRoutingKey(delay), delay));
+        addDelayQueue(declarables, analysisExchange, deferRoutingKey(properties.getDeferDelay()),
+                properties.getDeferDelay());
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    public FanoutExchange analysisStatusExchange() {
+        return new FanoutExchange(STATUS_EXCHANGE_NAME, true, false);
+    }
+
+    // 노드 전용 auto-delete 큐
+    @Bean
+    public Queue analysisStatusQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(STATUS_NODE_QUEUE_PREFIX));
+    }
+
+    @Bean
+    public Binding analysisStatusBinding(Queue analysisStatusQueue, FanoutExchange analysisStatusExchange) {
+        return BindingBuilder.bind(analysisStatusQueue)
+                             .to(analysisStatusExchange);
+    }
+
+    // 분석은 오래 걸리므로 소비자마다 한 건씩만 가져가 다른 소비자 / 노드에 작업이 고르게 돌아가게 한다
+    @Bean(name = LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory analysisListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            AnalysisQueueProperties properties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(properties.getConsumers());
+        factory.setMaxConcurrentConsumers(properties.getConsumers());
+        factory.setPrefetchCount(1);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
+    private void addDelayQueue(List<Declarable> declarables, DirectExchange analysisExchange, String name,
+                               Duration delay) {
+        Queue queue = QueueBuilder.durable(name)
+                                  .ttl((int) delay.toMillis())
+                                  .deadLetterExchange(ANALYSIS_EXCHANGE_NAME)
+                                  .deadLetterRoutingKey(JOB_ROUTING_KEY)
+                                  .build();
+        declarables.add(queue);
+        declarables.add(BindingBuilder.bind(queue)
+                                      .to(analysisExchange)
+                                      .with(name));
+    }
+}
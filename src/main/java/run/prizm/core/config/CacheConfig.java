@@ -1,5 +1,6 @@
 package run.prizm.core.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -10,22 +11,39 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import run.prizm.core.properties.CacheProperties;
+import run.prizm.core.storage.cache.TwoLevelCacheManager;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties,
+                                     CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                                                                .entryTtl(Duration.ofMinutes(10))
+                                                                .entryTtl(cacheProperties.getDefaults().getTtl())
                                                                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                                                                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
-        return RedisCacheManager.builder(connectionFactory)
-                                .cacheDefaults(config)
-                                .build();
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        cacheProperties.getSpecs()
+                       .forEach((name, spec) -> cacheConfigs.put(name, config.entryTtl(spec.getTtl())));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                                                               .cacheDefaults(config)
+                                                               .withInitialCacheConfigurations(cacheConfigs)
+                                                               .build();
+        redisCacheManager.initializeCaches();
+
+        // @Transactional 안에서의 put/evict 는 커밋 이후 반영
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, cacheProperties,
+                invalidationBus, meterRegistry);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
-}
\ No newline at end of file
+}
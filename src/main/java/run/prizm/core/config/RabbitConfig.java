@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
@@ -12,40 +14,74 @@ import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import run.prizm.core.message.codec.MessageEventMessageConverter;
+import run.prizm.core.properties.ChatBroadcastProperties;
+import run.prizm.core.properties.ChatCodecProperties;
 
 @Configuration
 @EnableRabbit
 public class RabbitConfig {
 
+    public static final String CHAT_EXCHANGE_NAME = "chat.exchange";
+    public static final String CHAT_INGEST_DEAD_LETTER_QUEUE_NAME = "chat.ingest.dlq";
     private static final String CHAT_QUEUE_NAME = "chat.queue";
-    private static final String CHAT_EXCHANGE_NAME = "chat.exchange";
+    private static final String CHAT_NODE_QUEUE_PREFIX = "chat.node.";
     private static final String ROUTING_KEY = "room.*";
 
     // Queue 등록
+    // FANOUT 모드에서는 노드 전용 auto-delete 큐 (바인딩은 ChannelSubscriptionRegistry 가 동적으로 관리)
     @Bean
-    public Queue queue() {
+    public Queue chatQueue(ChatBroadcastProperties broadcastProperties) {
+        if (broadcastProperties.getMode() == ChatBroadcastProperties.Mode.FANOUT) {
+            return new AnonymousQueue(new Base64UrlNamingStrategy(CHAT_NODE_QUEUE_PREFIX));
+        }
         return new Queue(CHAT_QUEUE_NAME, true);
     }
 
+    // 배치 저장에 끝내 실패한 메시지 (수동 복구용)
+    @Bean
+    public Queue chatIngestDeadLetterQueue() {
+        return new Queue(CHAT_INGEST_DEAD_LETTER_QUEUE_NAME, true);
+    }
+
     // Exchange 등록
     @Bean
     public TopicExchange exchange() {
         return new TopicExchange(CHAT_EXCHANGE_NAME, true, false);
     }
 
-    // Binding 등록
+    // Binding 등록 (SHARED 모드에서만 room.* 전체 바인딩)
     @Bean
-    public Binding binding(Queue queue, TopicExchange exchange) {
-        return BindingBuilder.bind(queue)
+    @ConditionalOnProperty(prefix = "prizm.chat.broadcast", name = "mode", havingValue = "shared", matchIfMissing = true)
+    public Binding binding(Queue chatQueue, TopicExchange exchange) {
+        return BindingBuilder.bind(chatQueue)
                              .to(exchange)
                              .with(ROUTING_KEY);
     }
 
     // MessageConverter 등록
+    // content-type 으로 JSON / 바이너리 코덱을 구분해 읽고, 발행 포맷은 prizm.chat.codec.format 으로 선택
+    @Bean
+    public MessageConverter messageConverter(ChatCodecProperties codecProperties) {
+        return new MessageEventMessageConverter(jsonMessageConverter(),
+                codecProperties.getFormat() == ChatCodecProperties.Format.BINARY);
+    }
+
+    // RabbitTemplate 등록
+    // Spring Boot AutoConfiguration이 ConnectionFactory, RabbitTemplate, AmqpAdmin 등을 자동으로 구성해줌
+    // RabbitTemplate을 customizing 할 때만 Bean을 직접 생성하면 됨
     @Bean
-    public Jackson2JsonMessageConverter messageConverter() {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(messageConverter);
+        return rabbitTemplate;
+    }
+
+    private Jackson2JsonMessageConverter jsonMessageConverter() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
         objectMapper.registerModule(new JavaTimeModule());
@@ -58,14 +94,4 @@ public class RabbitConfig {
         
         return new Jackson2JsonMessageConverter(objectMapper);
     }
-
-    // RabbitTemplate 등록
-    // Spring Boot AutoConfiguration이 ConnectionFactory, RabbitTemplate, AmqpAdmin 등을 자동으로 구성해줌
-    // RabbitTemplate을 customizing 할 때만 Bean을 직접 생성하면 됨
-    @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, Jackson2JsonMessageConverter messageConverter) {
-        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(messageConverter);
-        return rabbitTemplate;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package run.prizm.core.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자동 번역 결과 전달
+ * 번역은 메시지를 발행한 노드에서만 수행되므로, 결과를 translation.push fanout 으로 모든 노드에 보내
+ * 각 노드가 자기 세션에 연결된 멤버에게 전송한다.
+ */
+@Configuration
+public class TranslationPushConfig {
+
+    public static final String TRANSLATION_PUSH_EXCHANGE_NAME = "translation.push";
+    private static final String TRANSLATION_PUSH_NODE_QUEUE_PREFIX = "translation.push.node.";
+
+    @Bean
+    public FanoutExchange translationPushExchange() {
+        return new FanoutExchange(TRANSLATION_PUSH_EXCHANGE_NAME, true, false);
+    }
+
+    // 노드 전용 auto-delete 큐
+    @Bean
+    public Queue translationPushQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(TRANSLATION_PUSH_NODE_QUEUE_PREFIX));
+    }
+
+    @Bean
+    public Binding translationPushBinding(Queue translationPushQueue, FanoutExchange translationPushExchange) {
+        return BindingBuilder.bind(translationPushQueue)
+                             .to(translationPushExchange);
+    }
+}
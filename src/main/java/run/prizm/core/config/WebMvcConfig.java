@@ -1,11 +1,15 @@
 package run.prizm.core.config;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import run.prizm.core.security.permission.PermissionInterceptor;
+import run.prizm.core.security.permission.WorkspaceMembershipArgumentResolver;
 import run.prizm.core.user.resolver.CurrentUserResolver;
 
 import java.util.List;
@@ -16,10 +20,21 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final PermissionInterceptor permissionInterceptor;
     private final CurrentUserResolver currentUserResolver;
+    private final WorkspaceMembershipArgumentResolver workspaceMembershipArgumentResolver;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // AI 어시스턴트 요청은 응답 생성 동안 EntityManager(와 DB 커넥션)를 잡아두지 않도록 open-in-view 에서 제외
+        OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor = new OpenEntityManagerInViewInterceptor();
+        openEntityManagerInViewInterceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor)
+                .order(0)
+                .excludePathPatterns("/api/messages/ai-chat", "/api/messages/ai-chat/**");
+
+        // open-in-view 인터셉터(order 0) 이후에 실행되어야 조회한 멤버십 엔티티를 서비스에서 재사용할 수 있다
         registry.addInterceptor(permissionInterceptor)
+                .order(Ordered.LOWEST_PRECEDENCE)
                 .addPathPatterns("/api/workspaces/**")
                 .excludePathPatterns("/api/workspaces", "/api/workspaces/*/invites/*/join");
     }
@@ -27,5 +42,6 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserResolver);
+        resolvers.add(workspaceMembershipArgumentResolver);
     }
 }
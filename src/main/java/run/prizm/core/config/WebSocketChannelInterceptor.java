@@ -1,5 +1,6 @@
 package run.prizm.core.config;
 
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.Message;
@@ -7,43 +8,69 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.security.websocket.WebSocketSessionAuthorizer;
 
 @Component
+@RequiredArgsConstructor
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketChannelInterceptor.class);
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String CHANNEL_TOPIC_PREFIX = "/topic/channel/";
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String APP_DESTINATION_PREFIX = "/app/";
+
+    private final WebSocketSessionAuthorizer sessionAuthorizer;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
         StompCommand command = accessor.getCommand();
         String sessionId = accessor.getSessionId();
-        
-        logger.info("➡️ WebSocket Inbound: command={}, sessionId={}", command, sessionId);
 
-        if (StompCommand.SUBSCRIBE.equals(command)) {
+        if (StompCommand.CONNECT.equals(command)) {
+            // 세션 사용자 확정 (이후 SUBSCRIBE / SEND 인가와 /user/** 라우팅에 사용)
+            accessor.setUser(sessionAuthorizer.connect(sessionId, accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)));
+            logger.debug("🤝 [CONNECT] (sessionId: {}, user: {})", sessionId, accessor.getUser()
+                                                                                    .getName());
+        } else if (StompCommand.SUBSCRIBE.equals(command)) {
             String destination = accessor.getDestination();
-            logger.info("🔍 [SUBSCRIBE] destination: '{}' (sessionId: {})", destination, sessionId);
-            
-            // Frontend에서 이미 /topic/channel/* 형식으로 보내므로 변환 불필요
-            // RabbitMQ는 /topic, /queue prefix를 그대로 사용
-            if (destination != null && destination.startsWith("/topic/")) {
-                logger.info("✅ [SUBSCRIBE] Valid topic destination: '{}'", destination);
-            } else if (destination != null && destination.startsWith("/queue/")) {
-                logger.info("✅ [SUBSCRIBE] Valid queue destination: '{}'", destination);
-            } else if (destination != null && destination.startsWith("/user/")) {
-                logger.info("✅ [SUBSCRIBE] Valid user destination: '{}'", destination);
-            } else {
-                logger.warn("⚠️ [SUBSCRIBE] Invalid destination format: '{}' - must start with /topic/, /queue/, or /user/", destination);
+            logger.debug("🔍 [SUBSCRIBE] destination: '{}' (sessionId: {})", destination, sessionId);
+
+            if (destination != null && destination.startsWith(CHANNEL_TOPIC_PREFIX)) {
+                sessionAuthorizer.authorizeSubscribe(sessionId, accessor.getSubscriptionId(), parseChannelId(destination));
+            } else if (destination == null || !destination.startsWith(USER_DESTINATION_PREFIX)) {
+                // /queue/* 직접 구독은 다른 사용자의 개인 큐를 엿볼 수 있으므로 /user/** 만 허용
+                logger.warn("⚠️ [SUBSCRIBE] Rejected destination: '{}' (sessionId: {})", destination, sessionId);
+                throw new BusinessException(ErrorCode.CHANNEL_ACCESS_DENIED);
             }
         } else if (StompCommand.SEND.equals(command)) {
-            logger.info("💬 [SEND] destination: '{}' (sessionId: {})", accessor.getDestination(), sessionId);
-        } else if (StompCommand.CONNECT.equals(command)) {
-            logger.info("🤝 [CONNECT] (sessionId: {})", sessionId);
+            String destination = accessor.getDestination();
+            logger.debug("💬 [SEND] destination: '{}' (sessionId: {})", destination, sessionId);
+
+            // /topic, /queue 로 직접 SEND 하면 SimpleBroker 가 권한 검사 없이 구독자에게 중계하므로 /app/** 만 허용
+            // 채널 권한은 payload 의 channelId 로 ChatController 에서 같은 세션 캐시로 판정
+            if (destination == null || !destination.startsWith(APP_DESTINATION_PREFIX)) {
+                logger.warn("⚠️ [SEND] Rejected destination: '{}' (sessionId: {})", destination, sessionId);
+                throw new BusinessException(ErrorCode.CHANNEL_ACCESS_DENIED);
+            }
         }
-        
+
         return message;
     }
+
+    private Long parseChannelId(String destination) {
+        try {
+            return Long.parseLong(destination.substring(CHANNEL_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
 }
@@ -1,22 +1,71 @@
 package run.prizm.core.events;
 
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import run.prizm.core.message.service.ChannelSubscriptionRegistry;
+import run.prizm.core.security.websocket.WebSocketSessionAuthorizer;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketEventListener {
 
+    private final ChannelSubscriptionRegistry channelSubscriptionRegistry;
+    private final WebSocketSessionAuthorizer webSocketSessionAuthorizer;
+    // SimpleBroker 가 구독하는 채널 (서버에서 보낸 UNSUBSCRIBE 도 처리한다)
+    private final MessageChannel brokerChannel;
+
+    @PostConstruct
+    void registerRevokeListener() {
+        webSocketSessionAuthorizer.addRevokeListener(this::revokeSubscription);
+    }
+
     @EventListener
     public void handleSessionConnected(SessionConnectEvent event) {
         log.info("✅ Connected: {}", event.getMessage());
     }
 
+    @EventListener
+    public void handleSessionSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        channelSubscriptionRegistry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void handleSessionUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        channelSubscriptionRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+        webSocketSessionAuthorizer.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
     @EventListener
     public void handleSessionDisconnect(SessionDisconnectEvent event) {
         log.info("❌ Disconnected: {}", event.getSessionId());
+        channelSubscriptionRegistry.disconnect(event.getSessionId());
+        webSocketSessionAuthorizer.disconnect(event.getSessionId());
+    }
+
+    /**
+     * 권한을 잃은 구독을 브로커와 구독 레지스트리에서 제거 (클라이언트 프레임이 아니므로 Session 이벤트는 발생하지 않음)
+     */
+    private void revokeSubscription(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        brokerChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        channelSubscriptionRegistry.unsubscribe(sessionId, subscriptionId);
+        log.info("🚫 Subscription revoked: sessionId={}, subscriptionId={}", sessionId, subscriptionId);
     }
-}
\ No newline at end of file
+}
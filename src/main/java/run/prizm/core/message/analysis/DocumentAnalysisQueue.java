@@ -0,0 +1,188 @@
+package run.prizm.core.message.analysis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import run.prizm.core.config.AnalysisQueueConfig;
+import run.prizm.core.message.constraint.DocumentAnalysisStatus;
+import run.prizm.core.message.dto.DocumentAnalysisEvent;
+import run.prizm.core.message.dto.DocumentAnalysisJob;
+import run.prizm.core.properties.AnalysisQueueProperties;
+import run.prizm.core.storage.redis.DocumentAnalysisJobRepository;
+
+import java.time.Duration;
+
+/**
+ * 문서 분석 작업 큐 발행과 작업 상태 관리
+ * messageId 당 진행 중인 작업은 하나만 큐에 넣고, 상태가 바뀔 때마다 채널에 이벤트를 보낸다.
+ * Redis 장애 시에는 중복 확인과 잠금 없이 진행한다.
+ * 메트릭: prizm.analysis.jobs{outcome=queued|deduplicated|deferred|retried|dead_lettered|completed}
+ */
+@Component
+public class DocumentAnalysisQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentAnalysisQueue.class);
+    private static final String ERROR_HEADER = "x-analysis-error";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final DocumentAnalysisJobRepository jobRepository;
+    private final AnalysisQueueProperties properties;
+    private final Counter queued;
+    private final Counter deduplicated;
+    private final Counter deferred;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Counter completed;
+
+    public DocumentAnalysisQueue(RabbitTemplate rabbitTemplate, DocumentAnalysisJobRepository jobRepository,
+                                 AnalysisQueueProperties properties, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.jobRepository = jobRepository;
+        this.properties = properties;
+        this.queued = counter(meterRegistry, "queued");
+        this.deduplicated = counter(meterRegistry, "deduplicated");
+        this.deferred = counter(meterRegistry, "deferred");
+        this.retried = counter(meterRegistry, "retried");
+        this.deadLettered = counter(meterRegistry, "dead_lettered");
+        this.completed = counter(meterRegistry, "completed");
+    }
+
+    /**
+     * 새 작업을 큐에 넣는다, 같은 메시지의 작업이 대기 / 진행 중이면 넣지 않고 그 상태를 반환
+     */
+    public DocumentAnalysisStatus submit(Long messageId, Long channelId, Long workspaceId) {
+        String current = claim(messageId);
+        if (current != null) {
+            deduplicated.increment();
+            logger.info("Document analysis already {}: messageId={}", current, messageId);
+            return DocumentAnalysisStatus.valueOf(current);
+        }
+
+        DocumentAnalysisJob job = new DocumentAnalysisJob(messageId, channelId, workspaceId, 1);
+        try {
+            rabbitTemplate.convertAndSend(AnalysisQueueConfig.ANALYSIS_EXCHANGE_NAME,
+                    AnalysisQueueConfig.JOB_ROUTING_KEY, job);
+        } catch (RuntimeException e) {
+            // 다시 요청할 수 있도록 대기 상태를 풀어 둔다
+            saveStatus(messageId, DocumentAnalysisStatus.FAILED);
+            throw e;
+        }
+        queued.increment();
+        publishStatus(job, DocumentAnalysisStatus.QUEUED, null);
+        return DocumentAnalysisStatus.QUEUED;
+    }
+
+    /**
+     * 중복 전달된 작업 확인 (이미 끝난 작업은 다시 분석하지 않음)
+     */
+    public boolean isCompleted(Long messageId) {
+        try {
+            return DocumentAnalysisStatus.COMPLETED.name()
+                                                   .equals(jobRepository.findStatus(messageId));
+        } catch (Exception e) {
+            logger.warn("Document analysis status lookup failed: messageId={}", messageId, e);
+            return false;
+        }
+    }
+
+    public boolean tryLock(Long messageId, String owner) {
+        try {
+            return jobRepository.tryLock(messageId, owner, properties.getLockLease());
+        } catch (Exception e) {
+            logger.warn("Document analysis lock failed, processing without lock: messageId={}", messageId, e);
+            return true;
+        }
+    }
+
+    public void unlock(Long messageId, String owner) {
+        try {
+            jobRepository.unlock(messageId, owner);
+        } catch (Exception e) {
+            logger.warn("Failed to release document analysis lock: messageId={}", messageId, e);
+        }
+    }
+
+    /**
+     * 워크스페이스 한도 / 잠금으로 지금 처리할 수 없는 작업을 지연 후 다시 큐에 넣는다 (시도 횟수 유지)
+     */
+    public void defer(DocumentAnalysisJob job) {
+        rabbitTemplate.convertAndSend(AnalysisQueueConfig.ANALYSIS_EXCHANGE_NAME,
+                AnalysisQueueConfig.deferRoutingKey(properties.getDeferDelay()), job);
+        deferred.increment();
+    }
+
+    public boolean hasRetriesLeft(DocumentAnalysisJob job) {
+        return job.attempt() <= properties.getRetryBackoffs()
+                                          .size();
+    }
+
+    /**
+     * 실패한 작업을 시도 횟수에 맞는 지연 큐로 보낸다
+     */
+    public void retry(DocumentAnalysisJob job, Throwable error) {
+        Duration delay = properties.getRetryBackoffs()
+                                   .get(job.attempt() - 1);
+        rabbitTemplate.convertAndSend(AnalysisQueueConfig.ANALYSIS_EXCHANGE_NAME,
+                AnalysisQueueConfig.retryRoutingKey(delay), job.nextAttempt());
+        retried.increment();
+        publishStatus(job, DocumentAnalysisStatus.RETRYING, error.getMessage());
+    }
+
+    public void deadLetter(DocumentAnalysisJob job, Throwable error) {
+        rabbitTemplate.convertAndSend(AnalysisQueueConfig.ANALYSIS_EXCHANGE_NAME,
+                AnalysisQueueConfig.DEAD_ROUTING_KEY, job, message -> {
+                    message.getMessageProperties()
+                           .setHeader(ERROR_HEADER, String.valueOf(error.getMessage()));
+                    return message;
+                });
+        deadLettered.increment();
+        publishStatus(job, DocumentAnalysisStatus.FAILED, error.getMessage());
+    }
+
+    public void complete(DocumentAnalysisJob job) {
+        completed.increment();
+        publishStatus(job, DocumentAnalysisStatus.COMPLETED, null);
+    }
+
+    /**
+     * 상태 저장 후 모든 노드에 상태 이벤트 전달 (실패해도 작업 진행에는 영향 없음)
+     */
+    public void publishStatus(DocumentAnalysisJob job, DocumentAnalysisStatus status, String error) {
+        if (status != DocumentAnalysisStatus.QUEUED) {
+            saveStatus(job.messageId(), status);
+        }
+        try {
+            rabbitTemplate.convertAndSend(AnalysisQueueConfig.STATUS_EXCHANGE_NAME, "",
+                    DocumentAnalysisEvent.of(job, status, error));
+        } catch (Exception e) {
+            logger.warn("Failed to publish document analysis status: messageId={}, status={}",
+                    job.messageId(), status, e);
+        }
+    }
+
+    private String claim(Long messageId) {
+        try {
+            return jobRepository.claim(messageId, properties.getStatusTtl());
+        } catch (Exception e) {
+            logger.warn("Document analysis dedup failed, queueing without check: messageId={}", messageId, e);
+            return null;
+        }
+    }
+
+    private void saveStatus(Long messageId, DocumentAnalysisStatus status) {
+        try {
+            jobRepository.saveStatus(messageId, status.name(), properties.getStatusTtl());
+        } catch (Exception e) {
+            logger.warn("Failed to save document analysis status: messageId={}, status={}", messageId, status, e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("prizm.analysis.jobs")
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+}
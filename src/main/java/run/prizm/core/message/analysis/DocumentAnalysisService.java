@@ -3,24 +3,23 @@ package run.prizm.core.message.analysis;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
 import run.prizm.core.common.constraint.Language;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.message.constraint.DocumentAnalysisStatus;
 import run.prizm.core.message.constraint.MessageType;
+import run.prizm.core.message.dto.AnalysisSource;
 import run.prizm.core.message.entity.Message;
 import run.prizm.core.message.repository.MessageRepository;
 import run.prizm.core.message.service.MessagePublisher;
-import run.prizm.core.properties.UrlProperties;
+import run.prizm.core.storage.ai.AiClient;
+import run.prizm.core.storage.ai.AiEndpoint;
 import run.prizm.core.storage.s3.S3Service;
-import run.prizm.core.user.entity.User;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -29,109 +28,99 @@ public class DocumentAnalysisService {
     private static final Logger logger = LoggerFactory.getLogger(DocumentAnalysisService.class);
     private final MessageRepository messageRepository;
     private final S3Service s3Service;
-    private final WebClient.Builder webClientBuilder;
-    private final UrlProperties urlProperties;
+    private final AiClient aiClient;
     private final MessagePublisher messagePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentAnalysisQueue analysisQueue;
 
     /**
-     * 문서 분석 비동기 실행
-     * 
+     * 문서 분석 요청 (검증 후 작업 큐에 넣고 바로 반환)
+     * 같은 메시지의 작업이 이미 대기 / 진행 중이면 새로 넣지 않고 그 상태를 반환한다.
+     *
      * @param messageId 메시지 ID
      */
-    @Async
-    public CompletableFuture<Void> analyzeDocument(Long messageId) {
-        logger.info("Starting document analysis for messageId: {}", messageId);
+    public DocumentAnalysisStatus requestAnalysis(Long messageId) {
+        AnalysisSource source = findAnalysisSource(messageId);
+        return analysisQueue.submit(source.messageId(), source.channelId(), source.workspaceId());
+    }
 
-        try {
-            // 1. 메시지 조회
-            Message message = messageRepository.findById(messageId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Message not found"));
+    /**
+     * 문서 분석 실행 (작업 큐 소비자 스레드에서 호출, AI 응답을 기다리는 동안 트랜잭션을 열지 않음)
+     *
+     * @param messageId 메시지 ID
+     */
+    public void analyze(Long messageId) {
+        // 1. 메시지, 파일, 업로더 언어 조회 (projection 한 번)
+        AnalysisSource source = findAnalysisSource(messageId);
+
+        // 2. Presigned GET URL 생성
+        String presignedUrl = s3Service.generatePresignedDownloadUrl(source.filePath());
+
+        // 3. FastAPI 호출
+        String summary = callAnalysisApi(
+                presignedUrl,
+                source.fileName() + "." + source.fileExtension(),
+                source.uploaderLanguage()
+        );
+
+        // 4. DB 업데이트 후 RabbitMQ publish (WebSocket 브로드캐스트)
+        updateMessageContent(messageId, summary);
+    }
 
-            // 2. 타입 검증
-            if (message.getType() != MessageType.DOCUMENT) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, 
-                        "Only DOCUMENT type messages can be analyzed");
-            }
-
-            // 3. 파일 존재 확인
-            if (message.getFile() == null) {
-                throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "No file attached to message");
-            }
-
-            // 4. 업로더 언어 조회
-            User uploader = message.getWorkspaceUser().getUser();
-            Language summaryLanguage = uploader.getLanguage();
-
-            // 5. Presigned GET URL 생성
-            String fileKey = message.getFile().getPath();
-            String presignedUrl = s3Service.generatePresignedDownloadUrl(fileKey);
-
-            // 6. FastAPI 호출
-            String summary = callAnalysisApi(
-                    presignedUrl,
-                    message.getFile().getName() + "." + message.getFile().getExtension(),
-                    summaryLanguage
-            );
-
-            // 7. DB 업데이트
-            updateMessageContent(messageId, summary);
-
-            // 8. RabbitMQ publish (WebSocket 브로드캐스트)
-            Message updatedMessage = messageRepository.findById(messageId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Message not found"));
-            messagePublisher.publishMessageAnalyzed(updatedMessage);
+    private AnalysisSource findAnalysisSource(Long messageId) {
+        AnalysisSource source = messageRepository.findAnalysisSource(messageId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Message not found"));
 
-            logger.info("Document analysis completed for messageId: {}", messageId);
-            return CompletableFuture.completedFuture(null);
+        // 타입 검증
+        if (source.type() != MessageType.DOCUMENT) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "Only DOCUMENT type messages can be analyzed");
+        }
 
-        } catch (Exception e) {
-            logger.error("Document analysis failed for messageId: {}", messageId, e);
-            return CompletableFuture.failedFuture(e);
+        // 파일 존재 확인
+        if (source.filePath() == null) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "No file attached to message");
         }
+
+        if (source.uploaderLanguage() == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Uploader not found");
+        }
+        return source;
     }
 
     /**
      * FastAPI 문서 분석 API 호출
+     * 동시 호출 수, 제한 시간, 서킷 브레이커는 AiClient 의 analyze 정책을 따르고,
+     * 재시도 여부 판단을 위해 오류는 감싸지 않고 그대로 전파한다.
      */
     private String callAnalysisApi(String fileUrl, String fileName, Language language) {
-        WebClient webClient = webClientBuilder.baseUrl(urlProperties.getServiceAiUrl())
-                .build();
-
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("fileUrl", fileUrl);
         requestBody.put("fileName", fileName);
         requestBody.put("summaryLanguage", language.name());
 
-        try {
-            Map response = webClient.post()
-                    .uri("/ai/analyze")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();  // 비동기 스레드에서 실행중이므로 block 가능
-
-            if (response != null && response.containsKey("summary")) {
-                return (String) response.get("summary");
-            } else {
-                throw new BusinessException(ErrorCode.TRANSLATION_FAILED, "Analysis API returned no summary");
-            }
-        } catch (Exception e) {
-            logger.error("Failed to call analysis API", e);
-            throw new BusinessException(ErrorCode.TRANSLATION_FAILED, "Document analysis failed: " + e.getMessage());
+        Map response = aiClient.post(AiEndpoint.ANALYZE, "/ai/analyze", requestBody, Map.class)
+                .block();  // 분석 작업 소비자 스레드에서 실행중이므로 block 가능
+
+        if (response == null || !(response.get("summary") instanceof String summary)) {
+            throw new BusinessException(ErrorCode.DOCUMENT_ANALYSIS_FAILED, "Analysis API returned no summary");
         }
+        return summary;
     }
 
     /**
-     * 메시지 content 업데이트
+     * 메시지 content 업데이트 및 분석 완료 이벤트 발행 (이벤트는 커밋 이후 전송)
      */
-    @Transactional
-    public void updateMessageContent(Long messageId, String content) {
-        Message message = messageRepository.findById(messageId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Message not found"));
-        
-        message.setContent(content);
-        messageRepository.save(message);
-        
+    private void updateMessageContent(Long messageId, String content) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Message message = messageRepository.findById(messageId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Message not found"));
+
+            message.setContent(content);
+            messageRepository.save(message);
+            messagePublisher.publishMessageAnalyzed(message);
+        });
+
         logger.info("Updated message content for messageId: {}", messageId);
     }
 }
@@ -0,0 +1,129 @@
+package run.prizm.core.message.analysis;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.config.AnalysisQueueConfig;
+import run.prizm.core.message.constraint.DocumentAnalysisStatus;
+import run.prizm.core.message.dto.DocumentAnalysisEvent;
+import run.prizm.core.message.dto.DocumentAnalysisJob;
+import run.prizm.core.properties.AnalysisQueueProperties;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문서 분석 작업 소비자
+ * 소비자 수는 prizm.analysis.queue.consumers 로 정하고, 한 워크스페이스의 폭주가 모든 소비자를 차지하지 않도록
+ * 노드당 워크스페이스별 동시 처리 수를 넘는 작업은 지연 큐로 돌려보낸다.
+ * 실패는 재시도 가능한 경우(AI 서비스 과부하 / 장애 / 5xx / 시간 초과) 지연 후 다시 시도하고, 나머지는 dead-letter 큐로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentAnalysisWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentAnalysisWorker.class);
+    private static final String CHANNEL_TOPIC_PREFIX = "/topic/channel/";
+
+    private final DocumentAnalysisService documentAnalysisService;
+    private final DocumentAnalysisQueue analysisQueue;
+    private final AnalysisQueueProperties properties;
+    private final SimpMessagingTemplate messagingTemplate;
+    // 워크스페이스별 이 노드에서 처리 중인 작업 수
+    private final Map<Long, Integer> running = new ConcurrentHashMap<>();
+
+    @RabbitListener(queues = AnalysisQueueConfig.ANALYSIS_QUEUE_NAME,
+            containerFactory = AnalysisQueueConfig.LISTENER_CONTAINER_FACTORY)
+    public void handle(DocumentAnalysisJob job) {
+        if (analysisQueue.isCompleted(job.messageId())) {
+            logger.info("Skipping already analyzed document: messageId={}", job.messageId());
+            return;
+        }
+        if (!acquireSlot(job.workspaceId())) {
+            analysisQueue.defer(job);
+            return;
+        }
+
+        try {
+            String owner = UUID.randomUUID()
+                               .toString();
+            // 다른 소비자가 같은 메시지를 처리 중이면 잠금이 풀린 뒤 다시 확인
+            if (!analysisQueue.tryLock(job.messageId(), owner)) {
+                analysisQueue.defer(job);
+                return;
+            }
+            try {
+                process(job);
+            } finally {
+                analysisQueue.unlock(job.messageId(), owner);
+            }
+        } finally {
+            releaseSlot(job.workspaceId());
+        }
+    }
+
+    /**
+     * 다른 노드를 포함한 분석 상태 이벤트를 이 노드의 채널 구독자에게 전송
+     */
+    @RabbitListener(queues = "#{analysisStatusQueue.name}")
+    public void forwardStatus(DocumentAnalysisEvent event) {
+        messagingTemplate.convertAndSend(CHANNEL_TOPIC_PREFIX + event.channelId(), event);
+    }
+
+    private void process(DocumentAnalysisJob job) {
+        logger.info("Starting document analysis: messageId={}, attempt={}", job.messageId(), job.attempt());
+        analysisQueue.publishStatus(job, DocumentAnalysisStatus.RUNNING, null);
+        try {
+            documentAnalysisService.analyze(job.messageId());
+            analysisQueue.complete(job);
+            logger.info("Document analysis completed: messageId={}", job.messageId());
+        } catch (Exception e) {
+            if (isRetryable(e) && analysisQueue.hasRetriesLeft(job)) {
+                logger.warn("Document analysis failed, retrying: messageId={}, attempt={}",
+                        job.messageId(), job.attempt(), e);
+                analysisQueue.retry(job, e);
+            } else {
+                logger.error("Document analysis failed: messageId={}, attempt={}", job.messageId(), job.attempt(), e);
+                analysisQueue.deadLetter(job, e);
+            }
+        }
+    }
+
+    // 메시지 / 파일이 없거나 4xx 처럼 다시 시도해도 같은 결과인 실패는 제외
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof BusinessException businessException) {
+            ErrorCode errorCode = businessException.getErrorCode();
+            return errorCode == ErrorCode.AI_SERVICE_BUSY || errorCode == ErrorCode.AI_SERVICE_UNAVAILABLE
+                    || errorCode == ErrorCode.DOCUMENT_ANALYSIS_FAILED;
+        }
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode()
+                           .is5xxServerError();
+        }
+        return true;
+    }
+
+    private boolean acquireSlot(Long workspaceId) {
+        boolean[] acquired = {false};
+        running.compute(workspaceId, (id, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= properties.getMaxConcurrentPerWorkspace()) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void releaseSlot(Long workspaceId) {
+        running.computeIfPresent(workspaceId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,146 @@
+package run.prizm.core.message.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import run.prizm.core.properties.AiAnswerCacheProperties;
+import run.prizm.core.storage.cache.CacheMetrics;
+import run.prizm.core.storage.redis.AssistantAnswerCacheRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * AI 어시스턴트 답변 캐시 (Redis, RAG 코퍼스 세대 기반 무효화)
+ * (workspaceId, language, 정규화한 질문) 으로 /ai/chat 응답을 재사용한다.
+ * 세대를 먼저 읽고 AI 를 호출하므로, 호출 도중 코퍼스가 바뀌면 결과는 이미 지난 세대 키에 저장되어 다시 읽히지 않는다.
+ * Redis 장애 시에는 캐시 없이 AI 를 호출한다.
+ */
+@Component
+public class AssistantAnswerCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssistantAnswerCache.class);
+    private static final String CACHE_NAME = "assistantAnswer";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.。？！~]+$");
+
+    private final AssistantAnswerCacheRepository cacheRepository;
+    private final AiAnswerCacheProperties properties;
+    private final CacheMetrics metrics;
+    private final Counter sizeEvictions;
+    private final Counter corpusEvictions;
+
+    public AssistantAnswerCache(AssistantAnswerCacheRepository cacheRepository, AiAnswerCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.cacheRepository = cacheRepository;
+        this.properties = properties;
+        this.metrics = new CacheMetrics(meterRegistry, CACHE_NAME);
+        this.sizeEvictions = metrics.evictions("size");
+        this.corpusEvictions = metrics.evictions("corpus");
+    }
+
+    /**
+     * 조회용 키 (현재 코퍼스 세대 포함), 캐시를 쓸 수 없으면 null
+     */
+    public Key key(Long workspaceId, String language, String query) {
+        if (!properties.isEnabled() || query == null || query.isBlank()) {
+            return null;
+        }
+        try {
+            return new Key(workspaceId, cacheRepository.findGeneration(workspaceId), hash(language, query));
+        } catch (Exception e) {
+            logger.warn("Assistant answer cache generation lookup failed: workspaceId={}", workspaceId, e);
+            return null;
+        }
+    }
+
+    public Map<String, Object> find(Key key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            Map<String, Object> cached = cacheRepository.find(key.workspaceId(), key.generation(), key.hash());
+            if (cached != null) {
+                metrics.remoteHit();
+            } else {
+                metrics.miss();
+            }
+            return cached;
+        } catch (Exception e) {
+            logger.warn("Assistant answer cache lookup failed: workspaceId={}", key.workspaceId(), e);
+            return null;
+        }
+    }
+
+    public void save(Key key, Map<String, Object> answer) {
+        if (key == null || !(answer.get("answer") instanceof String text) || text.isBlank()) {
+            return;
+        }
+        try {
+            int evicted = cacheRepository.save(key.workspaceId(), key.generation(), key.hash(), answer,
+                    properties.getTtl(), properties.getMaxEntriesPerWorkspace());
+            sizeEvictions.increment(evicted);
+        } catch (Exception e) {
+            logger.warn("Failed to cache assistant answer: workspaceId={}", key.workspaceId(), e);
+        }
+    }
+
+    /**
+     * RAG 코퍼스 변경 시 워크스페이스 답변 전체 무효화 (트랜잭션 중이면 커밋 이후 수행)
+     */
+    public void invalidateWorkspace(Long workspaceId) {
+        runAfterCommit(() -> {
+            try {
+                cacheRepository.invalidateWorkspace(workspaceId, properties.getTtl());
+                corpusEvictions.increment();
+            } catch (Exception e) {
+                logger.warn("Failed to invalidate assistant answer cache: workspaceId={}", workspaceId, e);
+            }
+        });
+    }
+
+    // 대소문자, 유니코드 호환 문자, 공백, 끝 문장부호 차이는 같은 질문으로 본다
+    private String hash(String language, String query) {
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC)
+                                      .toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized)
+                               .replaceAll(" ")
+                               .trim();
+        normalized = TRAILING_PUNCTUATION.matcher(normalized)
+                                         .replaceAll("");
+        String source = (language != null ? language.toLowerCase(Locale.ROOT) : "") + "\n" + normalized;
+        try {
+            return HexFormat.of()
+                            .formatHex(MessageDigest.getInstance("SHA-256")
+                                                    .digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record Key(Long workspaceId, long generation, String hash) {
+    }
+}
@@ -0,0 +1,40 @@
+package run.prizm.core.message.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import run.prizm.core.message.dto.MessageResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(prefix = "prizm.chat.ring", name = "store", havingValue = "none", matchIfMissing = true)
+public class DisabledMessageRingCache implements MessageRingCache {
+
+    @Override
+    public void onBroadcast(MessageResponse message) {
+    }
+
+    @Override
+    public void onPublished(MessageResponse message) {
+    }
+
+    @Override
+    public List<MessageResponse> loadLatest(Long channelId, int limit, Supplier<List<MessageResponse>> loader) {
+        return loader.get();
+    }
+
+    @Override
+    public Optional<List<MessageResponse>> find(Long channelId, Long before, Long after, int limit) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void remove(Long channelId, Long messageId) {
+    }
+
+    @Override
+    public void evict(Long channelId) {
+    }
+}
@@ -0,0 +1,118 @@
+package run.prizm.core.message.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.message.service.ChannelSubscriptionRegistry;
+import run.prizm.core.properties.ChatBroadcastProperties;
+import run.prizm.core.properties.ChatRingCacheProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 노드 메모리 링 캐시
+ * MessageConsumer 가 받은 이벤트로 갱신되므로, 이 노드가 채널의 모든 이벤트를 받는 동안에만 유효하다.
+ * FANOUT 모드에서는 로컬 구독자가 있고 노드 큐 바인딩이 끝난 채널만 보관하고,
+ * 마지막 구독자가 떠나거나 바인딩 실패 / 브로커 재연결로 이벤트가 빠질 수 있으면 링을 버린다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "prizm.chat.ring", name = "store", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalMessageRingCache implements MessageRingCache {
+
+    private final ChatRingCacheProperties properties;
+    private final ChatBroadcastProperties broadcastProperties;
+    private final ChannelSubscriptionRegistry channelSubscriptionRegistry;
+
+    private Map<Long, MessageRing> rings;
+
+    @PostConstruct
+    void init() {
+        int maxChannels = properties.getMaxChannels();
+        rings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MessageRing> eldest) {
+                return size() > maxChannels;
+            }
+        };
+        channelSubscriptionRegistry.addUnboundListener(this::evict);
+    }
+
+    @Override
+    public synchronized void onBroadcast(MessageResponse message) {
+        if (!receivesAllEvents(message.getChannelId())) {
+            return;
+        }
+        MessageRing ring = rings.computeIfAbsent(message.getChannelId(), key -> new MessageRing());
+        ring.put(message);
+        ring.trim(properties.getCapacity());
+    }
+
+    @Override
+    public void onPublished(MessageResponse message) {
+        // 로컬 링은 이 노드가 브로드캐스트한 이벤트만 반영
+    }
+
+    @Override
+    public List<MessageResponse> loadLatest(Long channelId, int limit, Supplier<List<MessageResponse>> loader) {
+        // DB 조회 전에 링을 먼저 만들어 두어야 조회 도중 도착한 이벤트가 누락되지 않는다
+        MessageRing ring;
+        synchronized (this) {
+            if (!receivesAllEvents(channelId)) {
+                ring = null;
+            } else {
+                ring = rings.computeIfAbsent(channelId, key -> new MessageRing());
+            }
+        }
+
+        List<MessageResponse> messages = loader.get();
+        if (ring == null) {
+            return messages;
+        }
+
+        synchronized (this) {
+            // 조회 도중 구독이 끊겨 링이 버려졌다면 채우지 않는다
+            if (rings.get(channelId) == ring) {
+                messages.forEach(ring::putIfAbsent);
+                ring.markSeeded(messages.size() < limit);
+                ring.trim(properties.getCapacity());
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public synchronized Optional<List<MessageResponse>> find(Long channelId, Long before, Long after, int limit) {
+        MessageRing ring = rings.get(channelId);
+        if (ring == null || !receivesAllEvents(channelId)) {
+            return Optional.empty();
+        }
+        return ring.window(before, after, limit);
+    }
+
+    @Override
+    public synchronized void remove(Long channelId, Long messageId) {
+        MessageRing ring = rings.get(channelId);
+        if (ring != null) {
+            ring.remove(messageId);
+        }
+    }
+
+    @Override
+    public synchronized void evict(Long channelId) {
+        rings.remove(channelId);
+    }
+
+    // 바인딩이 끝나기 전에는 구독자가 있어도 다른 노드의 이벤트가 오지 않는다
+    private boolean receivesAllEvents(Long channelId) {
+        return broadcastProperties.getMode() != ChatBroadcastProperties.Mode.FANOUT
+                || (channelSubscriptionRegistry.hasLocalSubscribers(channelId)
+                && channelSubscriptionRegistry.isBound(channelId));
+    }
+}
@@ -0,0 +1,80 @@
+package run.prizm.core.message.cache;
+
+import run.prizm.core.message.dto.MessageResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 한 채널의 링 버퍼 (id 오름차순, id 는 시간순 정렬)
+ * 동기화는 사용하는 쪽에서 책임진다.
+ */
+class MessageRing {
+
+    private final NavigableMap<Long, MessageResponse> messages = new TreeMap<>();
+    private boolean seeded;
+    private boolean complete;
+
+    static MessageRing from(MessageRingSnapshot snapshot) {
+        MessageRing ring = new MessageRing();
+        snapshot.messages()
+                .forEach(ring::put);
+        ring.seeded = snapshot.seeded();
+        ring.complete = snapshot.complete();
+        return ring;
+    }
+
+    void put(MessageResponse message) {
+        messages.put(message.getId(), message);
+    }
+
+    void putIfAbsent(MessageResponse message) {
+        messages.putIfAbsent(message.getId(), message);
+    }
+
+    void remove(Long messageId) {
+        messages.remove(messageId);
+    }
+
+    void markSeeded(boolean complete) {
+        this.seeded = true;
+        this.complete = complete;
+    }
+
+    /**
+     * 용량을 넘는 오래된 항목 제거. 잘라낸 순간 채널 전체 히스토리는 더 이상 링에 없다.
+     */
+    void trim(int capacity) {
+        while (messages.size() > capacity) {
+            messages.pollFirstEntry();
+            complete = false;
+        }
+    }
+
+    Optional<List<MessageResponse>> window(Long before, Long after, int limit) {
+        if (!seeded) {
+            return Optional.empty();
+        }
+
+        if (after != null) {
+            if (!complete && (messages.isEmpty() || after < messages.firstKey())) {
+                return Optional.empty();
+            }
+            return Optional.of(messages.tailMap(after, false)
+                                       .values()
+                                       .stream()
+                                       .limit(limit)
+                                       .toList());
+        }
+
+        NavigableMap<Long, MessageResponse> older = before != null ? messages.headMap(before, false) : messages;
+        if (older.size() < limit && !complete) {
+            return Optional.empty();
+        }
+        List<MessageResponse> result = new ArrayList<>(older.values());
+        return Optional.of(result.subList(Math.max(0, result.size() - limit), result.size()));
+    }
+}
@@ -0,0 +1,40 @@
+package run.prizm.core.message.cache;
+
+import run.prizm.core.message.dto.MessageResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 채널별 최근 메시지 링 캐시
+ * 링은 가장 오래된 항목부터 최신 메시지까지 빈틈이 없는 구간만 보관하며,
+ * 요청한 구간을 링이 온전히 덮을 때만 결과를 돌려준다.
+ */
+public interface MessageRingCache {
+
+    /**
+     * 이 노드에서 WebSocket 으로 브로드캐스트된 메시지 반영 (생성/수정/분석 이벤트)
+     */
+    void onBroadcast(MessageResponse message);
+
+    /**
+     * 브로커로 발행된 메시지 반영 (노드와 무관하게 모든 이벤트가 한 번씩 지나가는 지점)
+     */
+    void onPublished(MessageResponse message);
+
+    /**
+     * 최신 메시지 limit 개를 loader(DB, 오래된 순)로 읽고 그 결과로 링을 채운다.
+     * 이미 링에 있는 항목은 덮어쓰지 않는다.
+     */
+    List<MessageResponse> loadLatest(Long channelId, int limit, Supplier<List<MessageResponse>> loader);
+
+    /**
+     * 링이 요청 구간을 덮으면 오래된 순의 메시지 목록을 반환
+     */
+    Optional<List<MessageResponse>> find(Long channelId, Long before, Long after, int limit);
+
+    void remove(Long channelId, Long messageId);
+
+    void evict(Long channelId);
+}
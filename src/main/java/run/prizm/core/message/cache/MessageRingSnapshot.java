@@ -0,0 +1,15 @@
+package run.prizm.core.message.cache;
+
+import run.prizm.core.message.dto.MessageResponse;
+
+import java.util.List;
+
+/**
+ * 외부 저장소에서 읽은 링 상태
+ */
+public record MessageRingSnapshot(
+        boolean seeded,
+        boolean complete,
+        List<MessageResponse> messages
+) {
+}
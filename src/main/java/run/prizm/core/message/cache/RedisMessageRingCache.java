@@ -0,0 +1,93 @@
+package run.prizm.core.message.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.properties.ChatRingCacheProperties;
+import run.prizm.core.storage.redis.MessageRingCacheRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Redis 공유 링 캐시 (다중 노드)
+ * 노드별 구독과 무관하게 모든 이벤트를 반영해야 하므로 브로드캐스트가 아닌 발행 시점에 갱신한다.
+ * Redis 장애 시에는 캐시 미스로 처리하고 DB 에서 조회한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "prizm.chat.ring", name = "store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisMessageRingCache implements MessageRingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisMessageRingCache.class);
+    // seeded, complete 상태 필드
+    private static final int STATE_FIELD_COUNT = 2;
+
+    private final ChatRingCacheProperties properties;
+    private final MessageRingCacheRepository ringCacheRepository;
+
+    @Override
+    public void onBroadcast(MessageResponse message) {
+        // 발행 시점(onPublished)에 이미 반영됨
+    }
+
+    @Override
+    public void onPublished(MessageResponse message) {
+        try {
+            long fieldCount = ringCacheRepository.put(message);
+            if (fieldCount > properties.getCapacity() + STATE_FIELD_COUNT) {
+                ringCacheRepository.trim(message.getChannelId(), properties.getCapacity());
+            }
+        } catch (Exception e) {
+            // 반영에 실패한 링은 빈틈이 생길 수 있으므로 버린다
+            logger.warn("Failed to update message ring: channelId={}", message.getChannelId(), e);
+            evict(message.getChannelId());
+        }
+    }
+
+    @Override
+    public List<MessageResponse> loadLatest(Long channelId, int limit, Supplier<List<MessageResponse>> loader) {
+        List<MessageResponse> messages = loader.get();
+        try {
+            ringCacheRepository.seed(channelId, messages, messages.size() < limit);
+            ringCacheRepository.trim(channelId, properties.getCapacity());
+        } catch (Exception e) {
+            logger.warn("Failed to seed message ring: channelId={}", channelId, e);
+        }
+        return messages;
+    }
+
+    @Override
+    public Optional<List<MessageResponse>> find(Long channelId, Long before, Long after, int limit) {
+        try {
+            return MessageRing.from(ringCacheRepository.find(channelId))
+                              .window(before, after, limit);
+        } catch (Exception e) {
+            logger.warn("Failed to read message ring: channelId={}", channelId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void remove(Long channelId, Long messageId) {
+        try {
+            ringCacheRepository.remove(channelId, messageId);
+        } catch (Exception e) {
+            logger.warn("Failed to remove from message ring: channelId={}, messageId={}", channelId, messageId, e);
+            evict(channelId);
+        }
+    }
+
+    @Override
+    public void evict(Long channelId) {
+        try {
+            ringCacheRepository.delete(channelId);
+        } catch (Exception e) {
+            logger.warn("Failed to evict message ring: channelId={}", channelId, e);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package run.prizm.core.message.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import run.prizm.core.common.constraint.Language;
+import run.prizm.core.properties.CacheProperties;
+import run.prizm.core.storage.cache.CacheMetrics;
+import run.prizm.core.storage.cache.LocalCacheStore;
+import run.prizm.core.storage.redis.TranslationCacheRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 메시지 번역 캐시 (L1: 노드 메모리, L2: Redis)
+ * 같은 (messageId, language) 번역 요청은 노드 안에서는 진행 중인 작업 하나에 합류하고,
+ * 노드 간에는 Redis 잠금을 잡은 노드만 번역하며 나머지는 L2 에 결과가 올라올 때까지 기다린다.
+ * 번역 결과는 바뀌지 않으므로 무효화는 하지 않는다. Redis 장애 시에는 잠금 없이 번역한다.
+ * 조회는 Mono 로 조합되어 번역 API 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ */
+@Component
+public class TranslationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationCache.class);
+    private static final String CACHE_NAME = "messageTranslation";
+    // AI 호출이 이 시간 안에 끝나지 않으면 다른 노드가 번역을 다시 시도할 수 있다
+    private static final Duration LOCK_LEASE = Duration.ofSeconds(60);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final TranslationCacheRepository cacheRepository;
+    private final CacheMetrics metrics;
+    private final LocalCacheStore<String, String> translations;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public TranslationCache(TranslationCacheRepository cacheRepository, CacheProperties cacheProperties,
+                            MeterRegistry meterRegistry) {
+        CacheProperties.Spec spec = cacheProperties.spec(CACHE_NAME);
+        this.cacheRepository = cacheRepository;
+        this.metrics = new CacheMetrics(meterRegistry, CACHE_NAME);
+        this.translations = new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(), metrics);
+    }
+
+    /**
+     * 캐시된 번역을 반환하고, 없으면 loader 로 번역한다
+     * Redis 조회와 잠금은 boundedElastic 에서 수행하고, 잠금 대기는 스레드를 잡지 않고 지연 후 다시 조회한다.
+     */
+    public Mono<String> get(Long messageId, Language language, Supplier<Mono<String>> loader) {
+        String key = messageId + ":" + language.name();
+        String cached = translations.get(key);
+        if (cached != null) {
+            metrics.localHit();
+            return Mono.just(cached);
+        }
+
+        return Mono.defer(() -> {
+            CompletableFuture<String> flight = new CompletableFuture<>();
+            CompletableFuture<String> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                // 합류한 쪽이 취소해도 진행 중인 작업은 취소되지 않도록 복사본을 구독
+                return Mono.fromFuture(existing.copy());
+            }
+
+            return blocking(() -> findRemote(messageId, language))
+                    .doOnNext(translated -> metrics.remoteHit())
+                    .switchIfEmpty(Mono.defer(() -> loadClusterWide(messageId, language, loader,
+                            UUID.randomUUID()
+                                .toString(), System.currentTimeMillis() + LOCK_LEASE.toMillis())))
+                    .doOnNext(translated -> {
+                        translations.put(key, translated);
+                        flight.complete(translated);
+                    })
+                    .doOnError(flight::completeExceptionally)
+                    .doFinally(signal -> {
+                        inFlight.remove(key, flight);
+                        if (!flight.isDone()) {
+                            flight.completeExceptionally(new CancellationException("Translation cancelled"));
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 여러 메시지의 번역을 L1 → L2 순으로 조회, L1 에 없는 것은 한 번의 MGET 으로 가져온다
+     * 캐시에 있는 번역만 messageId 별로 반환한다.
+     */
+    public Map<Long, String> findAll(Collection<Long> messageIds, Language language) {
+        Map<Long, String> found = new HashMap<>();
+        List<Long> remoteIds = new ArrayList<>();
+        for (Long messageId : messageIds) {
+            String cached = translations.get(messageId + ":" + language.name());
+            if (cached != null) {
+                metrics.localHit();
+                found.put(messageId, cached);
+            } else {
+                remoteIds.add(messageId);
+            }
+        }
+        if (remoteIds.isEmpty()) {
+            return found;
+        }
+
+        try {
+            cacheRepository.findAll(remoteIds, language)
+                           .forEach((messageId, cached) -> {
+                               metrics.remoteHit();
+                               translations.put(messageId + ":" + language.name(), cached);
+                               found.put(messageId, cached);
+                           });
+        } catch (Exception e) {
+            logger.warn("Translation cache batch lookup failed: messages={}, language={}", remoteIds.size(),
+                    language, e);
+        }
+        return found;
+    }
+
+    /**
+     * DB 에서 읽은 번역을 L1 / L2 에 올린다
+     */
+    public void put(Long messageId, Language language, String translated) {
+        translations.put(messageId + ":" + language.name(), translated);
+        try {
+            cacheRepository.save(messageId, language, translated);
+        } catch (Exception e) {
+            logger.warn("Failed to cache translation: messageId={}, language={}", messageId, language, e);
+        }
+    }
+
+    private Mono<String> loadClusterWide(Long messageId, Language language, Supplier<Mono<String>> loader,
+                                         String owner, long deadline) {
+        return blocking(() -> tryLock(messageId, language, owner))
+                .flatMap(lock -> switch (lock) {
+                    case UNAVAILABLE -> loadAndStore(messageId, language, loader);
+                    // 잠금을 기다리는 사이 다른 노드가 끝냈을 수 있다
+                    case ACQUIRED -> blocking(() -> findRemote(messageId, language))
+                            .doOnNext(translated -> metrics.remoteHit())
+                            .switchIfEmpty(Mono.defer(() -> loadAndStore(messageId, language, loader)))
+                            .doFinally(signal -> Schedulers.boundedElastic()
+                                                           .schedule(() -> unlock(messageId, language, owner)));
+                    case HELD -> Mono.delay(POLL_INTERVAL)
+                                     .then(blocking(() -> findRemote(messageId, language)))
+                                     .doOnNext(translated -> metrics.remoteHit())
+                                     .switchIfEmpty(Mono.defer(() -> {
+                                         if (System.currentTimeMillis() > deadline) {
+                                             logger.warn("Timed out waiting for translation lock: messageId={}, language={}",
+                                                     messageId, language);
+                                             return loadAndStore(messageId, language, loader);
+                                         }
+                                         return loadClusterWide(messageId, language, loader, owner, deadline);
+                                     }));
+                });
+    }
+
+    private Mono<String> loadAndStore(Long messageId, Language language, Supplier<Mono<String>> loader) {
+        metrics.miss();
+        return Mono.defer(loader)
+                   .flatMap(translated -> blocking(() -> {
+                       try {
+                           cacheRepository.save(messageId, language, translated);
+                       } catch (Exception e) {
+                           logger.warn("Failed to cache translation: messageId={}, language={}", messageId, language, e);
+                       }
+                       return translated;
+                   }));
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private String findRemote(Long messageId, Language language) {
+        try {
+            return cacheRepository.find(messageId, language);
+        } catch (Exception e) {
+            logger.warn("Translation cache lookup failed: messageId={}, language={}", messageId, language, e);
+            return null;
+        }
+    }
+
+    private Lock tryLock(Long messageId, Language language, String owner) {
+        try {
+            return cacheRepository.tryLock(messageId, language, owner, LOCK_LEASE) ? Lock.ACQUIRED : Lock.HELD;
+        } catch (Exception e) {
+            logger.warn("Translation lock failed, translating without lock: messageId={}, language={}",
+                    messageId, language, e);
+            return Lock.UNAVAILABLE;
+        }
+    }
+
+    private void unlock(Long messageId, Language language, String owner) {
+        try {
+            cacheRepository.unlock(messageId, language, owner);
+        } catch (Exception e) {
+            logger.warn("Failed to release translation lock: messageId={}, language={}", messageId, language, e);
+        }
+    }
+
+    private enum Lock {
+        ACQUIRED,
+        HELD,
+        // Redis 장애
+        UNAVAILABLE
+    }
+}
@@ -0,0 +1,263 @@
+package run.prizm.core.message.codec;
+
+import run.prizm.core.message.constraint.MessageType;
+import run.prizm.core.message.dto.MessageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * chat.exchange 내부 이벤트용 바이너리 코덱 (MessageResponse)
+ * <pre>
+ * v1: [version:1B][flags:varint][id][channelId][선택 필드...]
+ *     long    : zigzag varint
+ *     String  : 바이트 길이 varint + UTF-8
+ *     enum    : V1_TYPES 인덱스 varint (enum 선언 순서와 무관)
+ *     Instant : epochSecond zigzag varint + nano varint
+ * </pre>
+ * 필드 추가는 flags 비트를 뒤에 덧붙이는 방식으로, 기존 필드 의미를 바꿀 때는 버전을 올린다.
+ */
+public final class MessageEventBinaryCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.prizm.message-event+binary";
+    public static final byte VERSION = 1;
+
+    private static final MessageType[] V1_TYPES = {
+            MessageType.TEXT, MessageType.LINK, MessageType.MEDIA, MessageType.DOCUMENT, MessageType.FILE
+    };
+
+    private static final int EDITED = 1;
+    private static final int PINNED = 1 << 1;
+    private static final int WORKSPACE_USER_ID = 1 << 2;
+    private static final int USER_ID = 1 << 3;
+    private static final int USERNAME = 1 << 4;
+    private static final int USER_AVATAR = 1 << 5;
+    private static final int TYPE = 1 << 6;
+    private static final int CONTENT = 1 << 7;
+    private static final int FILE_ID = 1 << 8;
+    private static final int REPLY_TO_ID = 1 << 9;
+    private static final int THREAD_ID = 1 << 10;
+    private static final int CREATED_AT = 1 << 11;
+    private static final int UPDATED_AT = 1 << 12;
+
+    private MessageEventBinaryCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static byte[] encode(MessageResponse message) {
+        int flags = (message.isEdited() ? EDITED : 0)
+                | (message.isPinned() ? PINNED : 0)
+                | (message.getWorkspaceUserId() != null ? WORKSPACE_USER_ID : 0)
+                | (message.getUserId() != null ? USER_ID : 0)
+                | (message.getUsername() != null ? USERNAME : 0)
+                | (message.getUserAvatar() != null ? USER_AVATAR : 0)
+                | (message.getType() != null ? TYPE : 0)
+                | (message.getContent() != null ? CONTENT : 0)
+                | (message.getFileId() != null ? FILE_ID : 0)
+                | (message.getReplyToId() != null ? REPLY_TO_ID : 0)
+                | (message.getThreadId() != null ? THREAD_ID : 0)
+                | (message.getCreatedAt() != null ? CREATED_AT : 0)
+                | (message.getUpdatedAt() != null ? UPDATED_AT : 0);
+
+        Writer writer = new Writer(64 + length(message.getContent()));
+        writer.writeByte(VERSION);
+        writer.writeVarint(flags);
+        writer.writeLong(message.getId());
+        writer.writeLong(message.getChannelId());
+        if ((flags & WORKSPACE_USER_ID) != 0) {
+            writer.writeLong(message.getWorkspaceUserId());
+        }
+        if ((flags & USER_ID) != 0) {
+            writer.writeString(message.getUserId());
+        }
+        if ((flags & USERNAME) != 0) {
+            writer.writeString(message.getUsername());
+        }
+        if ((flags & USER_AVATAR) != 0) {
+            writer.writeString(message.getUserAvatar());
+        }
+        if ((flags & TYPE) != 0) {
+            writer.writeVarint(typeIndex(message.getType()));
+        }
+        if ((flags & CONTENT) != 0) {
+            writer.writeString(message.getContent());
+        }
+        if ((flags & FILE_ID) != 0) {
+            writer.writeLong(message.getFileId());
+        }
+        if ((flags & REPLY_TO_ID) != 0) {
+            writer.writeLong(message.getReplyToId());
+        }
+        if ((flags & THREAD_ID) != 0) {
+            writer.writeLong(message.getThreadId());
+        }
+        if ((flags & CREATED_AT) != 0) {
+            writer.writeInstant(message.getCreatedAt());
+        }
+        if ((flags & UPDATED_AT) != 0) {
+            writer.writeInstant(message.getUpdatedAt());
+        }
+        return writer.toByteArray();
+    }
+
+    public static MessageResponse decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported message event codec version: " + version);
+        }
+
+        int flags = reader.readVarint();
+        MessageResponse.MessageResponseBuilder builder = MessageResponse.builder()
+                                                                        .edited((flags & EDITED) != 0)
+                                                                        .pinned((flags & PINNED) != 0)
+                                                                        .id(reader.readLong())
+                                                                        .channelId(reader.readLong());
+        if ((flags & WORKSPACE_USER_ID) != 0) {
+            builder.workspaceUserId(reader.readLong());
+        }
+        if ((flags & USER_ID) != 0) {
+            builder.userId(reader.readString());
+        }
+        if ((flags & USERNAME) != 0) {
+            builder.username(reader.readString());
+        }
+        if ((flags & USER_AVATAR) != 0) {
+            builder.userAvatar(reader.readString());
+        }
+        if ((flags & TYPE) != 0) {
+            builder.type(V1_TYPES[reader.readVarint()]);
+        }
+        if ((flags & CONTENT) != 0) {
+            builder.content(reader.readString());
+        }
+        if ((flags & FILE_ID) != 0) {
+            builder.fileId(reader.readLong());
+        }
+        if ((flags & REPLY_TO_ID) != 0) {
+            builder.replyToId(reader.readLong());
+        }
+        if ((flags & THREAD_ID) != 0) {
+            builder.threadId(reader.readLong());
+        }
+        if ((flags & CREATED_AT) != 0) {
+            builder.createdAt(reader.readInstant());
+        }
+        if ((flags & UPDATED_AT) != 0) {
+            builder.updatedAt(reader.readInstant());
+        }
+        return builder.build();
+    }
+
+    private static int typeIndex(MessageType type) {
+        for (int i = 0; i < V1_TYPES.length; i++) {
+            if (V1_TYPES[i] == type) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Message type not registered in codec v1: " + type);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() * 3 : 0;
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        private Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeLong(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        private void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeInstant(Instant value) {
+            writeLong(value.getEpochSecond());
+            writeVarint(value.getNano());
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private byte readByte() {
+            return buffer[position++];
+        }
+
+        private long readRawVarint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        private int readVarint() {
+            return Math.toIntExact(readRawVarint());
+        }
+
+        private long readLong() {
+            long raw = readRawVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        private String readString() {
+            int length = readVarint();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private Instant readInstant() {
+            long epochSecond = readLong();
+            return Instant.ofEpochSecond(epochSecond, readVarint());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package run.prizm.core.message.codec;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import run.prizm.core.message.dto.MessageResponse;
+
+/**
+ * chat.exchange 메시지 변환기
+ * 수신: content-type 이 바이너리 코덱이면 MessageEventBinaryCodec, 아니면 JSON 변환기로 위임
+ * 발신: writeBinary 설정 시 MessageResponse 만 바이너리로, 나머지는 JSON
+ */
+public class MessageEventMessageConverter implements MessageConverter {
+
+    private final MessageConverter jsonConverter;
+    private final boolean writeBinary;
+
+    public MessageEventMessageConverter(MessageConverter jsonConverter, boolean writeBinary) {
+        this.jsonConverter = jsonConverter;
+        this.writeBinary = writeBinary;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!writeBinary || !(object instanceof MessageResponse messageResponse)) {
+            return jsonConverter.toMessage(object, messageProperties);
+        }
+
+        byte[] body = MessageEventBinaryCodec.encode(messageResponse);
+        messageProperties.setContentType(MessageEventBinaryCodec.CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        if (!MessageEventBinaryCodec.CONTENT_TYPE.equals(message.getMessageProperties()
+                                                                .getContentType())) {
+            return jsonConverter.fromMessage(message);
+        }
+
+        try {
+            return MessageEventBinaryCodec.decode(message.getBody());
+        } catch (RuntimeException e) {
+            throw new MessageConversionException("Failed to decode binary message event", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package run.prizm.core.message.constraint;
+
+public enum DocumentAnalysisStatus {
+    QUEUED,
+    RUNNING,
+    RETRYING,
+    COMPLETED,
+    FAILED
+}
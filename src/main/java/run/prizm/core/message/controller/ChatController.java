@@ -5,25 +5,30 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 import run.prizm.core.message.constraint.MessageType;
 import run.prizm.core.message.dto.MessageSendRequest;
+import run.prizm.core.message.dto.TranslationBatchRequest;
 import run.prizm.core.message.dto.TranslationRequest;
 import run.prizm.core.message.dto.TranslationResponse;
-import run.prizm.core.message.entity.Message;
 import run.prizm.core.message.service.ChatService;
+import run.prizm.core.message.service.MessageBatchWriter;
 import run.prizm.core.message.service.TranslationService;
 import run.prizm.core.message.util.MessageTypeDetector;
-import run.prizm.core.space.channel.entity.Channel;
-import run.prizm.core.space.channel.repository.ChannelRepository;
-import run.prizm.core.space.workspace.entity.WorkspaceUser;
-import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+import run.prizm.core.security.websocket.WebSocketSessionAuthorizer;
+import run.prizm.core.space.channel.cache.ChannelSnapshot;
+import run.prizm.core.space.channel.cache.ChannelSnapshotCache;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshot;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshotCache;
+import run.prizm.core.user.resolver.CurrentUser;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,9 +36,11 @@ public class ChatController {
 
     private static final Logger logger = LoggerFactory.getLogger(ChatController.class);
     private final ChatService chatService;
+    private final MessageBatchWriter messageBatchWriter;
     private final TranslationService translationService;
-    private final ChannelRepository channelRepository;
-    private final WorkspaceUserRepository workspaceUserRepository;
+    private final ChannelSnapshotCache channelSnapshotCache;
+    private final WorkspaceUserSnapshotCache workspaceUserSnapshotCache;
+    private final WebSocketSessionAuthorizer sessionAuthorizer;
 
     /**
      * Handles incoming chat messages from clients via WebSocket.
@@ -42,34 +49,20 @@ public class ChatController {
      * @param principal Principal 객체 (WebSocket 인증 정보)
      */
     @MessageMapping("/chat.send")
-    public void sendMessage(@Valid MessageSendRequest request, java.security.Principal principal) {
-        logger.info("📩 Received message for channelId={} from user={}", 
+    public void sendMessage(@Valid MessageSendRequest request, java.security.Principal principal,
+                            SimpMessageHeaderAccessor headerAccessor) {
+        logger.debug("📩 Received message for channelId={} from user={}",
                 request.channelId(), principal != null ? principal.getName() : "anonymous");
-        logger.info("🔍 Request data: channelId={}, workspaceUserId={}, contentType={}, content={}", 
-                request.channelId(), request.workspaceUserId(), request.contentType(), 
-                request.content() != null ? request.content().substring(0, Math.min(50, request.content().length())) : "null");
 
-        Channel channel = channelRepository.findById(request.channelId())
-                                           .orElseThrow(
-                                                   () -> new BusinessException(ErrorCode.CHANNEL_NOT_FOUND));
-
-        // workspaceUserId가 없으면 에러
-        Long workspaceUserId = request.workspaceUserId();
-        if (workspaceUserId == null) {
-            logger.error("❌ workspaceUserId is null in request");
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, 
-                    "workspaceUserId is required");
+        // 발신자는 세션 인가 캐시에서 확정 (채널 WRITE 권한 필요, payload 의 workspaceUserId 는 신뢰하지 않음)
+        Long workspaceUserId = sessionAuthorizer.authorizeSend(headerAccessor.getSessionId(), request.channelId());
+        if (request.workspaceUserId() != null && !request.workspaceUserId().equals(workspaceUserId)) {
+            throw new BusinessException(ErrorCode.CHANNEL_ACCESS_DENIED);
         }
 
-        logger.info("🔍 Looking up workspaceUser with id: {}", workspaceUserId);
-        WorkspaceUser workspaceUser = workspaceUserRepository.findByIdWithUser(workspaceUserId)
-                                                             .orElseThrow(
-                                                                     () -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
-        
-        logger.info("✅ Found workspaceUser: id={}, user.id={}, user.name={}", 
-                workspaceUser.getId(), 
-                workspaceUser.getUser() != null ? workspaceUser.getUser().getId() : "null",
-                workspaceUser.getUser() != null ? workspaceUser.getUser().getName() : "null");
+        // 채널/발신자 정보는 스냅샷으로 처리 (엔티티 로딩 없음)
+        ChannelSnapshot channel = channelSnapshotCache.get(request.channelId());
+        WorkspaceUserSnapshot sender = workspaceUserSnapshotCache.get(workspaceUserId);
 
         // 메시지 타입 자동 판별 (contentType이 있으면 사용, 없으면 자동 판별)
         MessageType messageType;
@@ -84,14 +77,10 @@ public class ChatController {
             messageType = MessageTypeDetector.determineType(request.content(), null);
         }
 
-        Message message = Message.builder()
-                                 .channel(channel)
-                                 .workspaceUser(workspaceUser)
-                                 .type(messageType)
-                                 .content(request.content())
-                                 .build();
-
-        chatService.sendMessage(message);
+        // BATCHED 모드면 배치 큐로, 아니거나 큐가 가득 찼으면 즉시 저장
+        if (!messageBatchWriter.enqueue(channel, sender, messageType, request.content())) {
+            chatService.sendMessage(channel, sender, messageType, request.content());
+        }
     }
 
     /**
@@ -101,7 +90,11 @@ public class ChatController {
      * @param principal Principal 객체 (사용자 인증 정보)
      */
     @MessageMapping("/chat.translate")
-    public void translate(@Valid TranslationRequest request, java.security.Principal principal) {
+    public void translate(@Valid TranslationRequest request, java.security.Principal principal,
+                          SimpMessageHeaderAccessor headerAccessor) {
+        // 메시지가 속한 채널의 READ 권한이 있어야 본문을 번역할 수 있다
+        sessionAuthorizer.authorizeRead(headerAccessor.getSessionId(),
+                translationService.findChannelId(request.messageId()));
         logger.info("Received translation request for messageId: {}, from user: {}", 
                 request.messageId(), principal.getName());
         
@@ -114,41 +107,65 @@ public class ChatController {
     }
 
     /**
-     * Handles translation requests via a REST API endpoint (동기 처리).
+     * Handles batch translation requests (auto-translate) via WebSocket.
+     * 캐시된 번역은 바로, 나머지는 번역되는 대로 /user/{userId}/queue/translation 으로 전송된다.
+     *
+     * @param request 채널 ID, 메시지 ID 목록 또는 히스토리 구간, 대상 언어
+     * @param principal Principal 객체 (사용자 인증 정보)
+     */
+    @MessageMapping("/chat.translate.batch")
+    public void translateBatch(@Valid TranslationBatchRequest request, java.security.Principal principal,
+                               SimpMessageHeaderAccessor headerAccessor) {
+        // 채널 READ 권한이 있어야 메시지 본문을 번역할 수 있다
+        sessionAuthorizer.authorizeRead(headerAccessor.getSessionId(), request.channelId());
+        logger.info("Received batch translation request for channelId: {}, from user: {}",
+                request.channelId(), principal.getName());
+
+        translationService.translateBatchAndNotify(request, principal.getName());
+    }
+
+    /**
+     * Handles translation requests via a REST API endpoint (비동기 응답, 요청 스레드를 점유하지 않음).
      *
      * @param request The request object containing the message ID and target language.
      * @return TranslationResponse
      */
     @PostMapping("/api/translate")
-    public TranslationResponse handleTranslateApi(@Valid @RequestBody TranslationRequest request) {
+    public Mono<TranslationResponse> handleTranslateApi(@Valid @RequestBody TranslationRequest request,
+                                                        @CurrentUser Long userId) {
         logger.info("📬 Received API translation request for messageId: {}, targetLang: {}", 
                 request.messageId(), request.targetLang());
-        
-        try {
-            // Mono를 동기적으로 블로킹 처리
-            String translatedText = translationService.getOrTranslateMessage(request.messageId(), request.targetLang())
-                    .block(); // Reactive → Blocking 변환
-            
-            logger.info("✅ Translation completed: messageId={}, result length={}", 
-                    request.messageId(), translatedText != null ? translatedText.length() : 0);
-            
-            return new TranslationResponse(
-                    request.messageId(),
-                    translatedText,
-                    null,
-                    request.targetLang()
-            );
-        } catch (Exception e) {
-            logger.error("❌ Translation API failed for messageId={}: {}", 
-                    request.messageId(), e.getMessage(), e);
-            
-            // 에러 발생 시에도 응답 반환 (401 방지)
-            return new TranslationResponse(
-                    request.messageId(),
-                    "Translation failed: " + e.getMessage(),
-                    null,
-                    request.targetLang()
-            );
-        }
+
+        // 권한 거부는 번역 실패 응답으로 바꾸지 않고 그대로 403 으로 반환
+        Mono<Void> authorized = Mono.<Void>fromRunnable(() -> sessionAuthorizer.authorizeUserRead(userId,
+                                            translationService.findChannelId(request.messageId())))
+                                    .subscribeOn(Schedulers.boundedElastic());
+        return authorized.then(translate(request));
+    }
+
+    private Mono<TranslationResponse> translate(TranslationRequest request) {
+        return Mono.defer(() -> translationService.getOrTranslateMessage(request.messageId(), request.targetLang()))
+                .map(translatedText -> {
+                    logger.info("✅ Translation completed: messageId={}, result length={}",
+                            request.messageId(), translatedText.length());
+                    return new TranslationResponse(
+                            request.messageId(),
+                            translatedText,
+                            null,
+                            request.targetLang()
+                    );
+                })
+                .onErrorResume(e -> {
+                    logger.error("❌ Translation API failed for messageId={}: {}",
+                            request.messageId(), e.getMessage(), e);
+
+                    // 에러 발생 시에도 응답 반환 (401 방지)
+                    return Mono.just(new TranslationResponse(
+                            request.messageId(),
+                            "Translation failed: " + e.getMessage(),
+                            null,
+                            request.targetLang()
+                    ));
+                });
     }
 }
@@ -4,20 +4,23 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import run.prizm.core.message.analysis.DocumentAnalysisService;
+import run.prizm.core.message.constraint.DocumentAnalysisStatus;
 import run.prizm.core.message.dto.AIChatRequest;
 import run.prizm.core.message.dto.AIChatResponse;
 import run.prizm.core.message.dto.MessageResponse;
-import run.prizm.core.message.entity.Message;
-import run.prizm.core.message.repository.MessageRepository;
 import run.prizm.core.message.service.AIAssistantService;
+import run.prizm.core.message.service.MessageHistoryService;
+import run.prizm.core.user.resolver.CurrentUser;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/messages")
@@ -27,30 +30,25 @@ public class MessageController {
     private static final Logger logger = LoggerFactory.getLogger(MessageController.class);
     private final DocumentAnalysisService documentAnalysisService;
     private final AIAssistantService aiAssistantService;
-    private final MessageRepository messageRepository;
+    private final MessageHistoryService messageHistoryService;
 
     /**
      * 채널의 메시지 목록 조회
-     * GET /api/messages?channelId={channelId}&limit={limit}
+     * GET /api/messages?channelId={channelId}&limit={limit}[&before={messageId}|&after={messageId}|&around={messageId}]
      */
     @GetMapping
     public ResponseEntity<List<MessageResponse>> getMessages(
             @RequestParam Long channelId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long around,
             @RequestParam(defaultValue = "50") int limit) {
-        logger.info("Fetching messages for channelId: {}, limit: {}", channelId, limit);
-        
-        List<Message> messages = messageRepository.findByChannelIdOrderByCreatedAtDesc(
-                channelId, 
-                PageRequest.of(0, limit));
-        
-        List<MessageResponse> response = messages.stream()
-                .map(MessageResponse::from)
-                .collect(Collectors.toList());
-        
-        // 최신 순으로 정렬 (DB에서 DESC로 가져왔으므로 reverse)
-        java.util.Collections.reverse(response);
-        
-        logger.info("Found {} messages for channelId: {}", response.size(), channelId);
+        logger.debug("Fetching messages for channelId: {}, before: {}, after: {}, around: {}, limit: {}",
+                channelId, before, after, around, limit);
+
+        List<MessageResponse> response = messageHistoryService.getMessages(channelId, before, after, around, limit);
+
+        logger.debug("Found {} messages for channelId: {}", response.size(), channelId);
         return ResponseEntity.ok(response);
     }
 
@@ -62,15 +60,18 @@ public class MessageController {
     public ResponseEntity<Map<String, Object>> analyzeDocument(@PathVariable Long messageId) {
         logger.info("Received document analysis request for messageId: {}", messageId);
 
-        // 비동기 분석 시작
-        documentAnalysisService.analyzeDocument(messageId);
+        // 분석 작업 큐에 등록 (진행 상태는 채널 토픽으로 전송)
+        DocumentAnalysisStatus analysisStatus = documentAnalysisService.requestAnalysis(messageId);
 
         // 즉시 응답
         return ResponseEntity.accepted()
                 .body(Map.of(
                         "status", "processing",
+                        "analysisStatus", analysisStatus,
                         "messageId", messageId,
-                        "message", "Document analysis started"
+                        "message", analysisStatus == DocumentAnalysisStatus.QUEUED
+                                ? "Document analysis queued"
+                                : "Document analysis already in progress"
                 ));
     }
 
@@ -79,12 +80,26 @@ public class MessageController {
      * POST /api/messages/ai-chat
      */
     @PostMapping("/ai-chat")
-    public ResponseEntity<AIChatResponse> aiChat(@Valid @RequestBody AIChatRequest request) {
+    public Mono<ResponseEntity<AIChatResponse>> aiChat(@Valid @RequestBody AIChatRequest request,
+                                                       @CurrentUser Long userId) {
         logger.info("Received AI chat request: workspaceUserId={}, query={}", 
                 request.getWorkspaceUserId(), request.getQuery());
 
-        AIChatResponse response = aiAssistantService.chat(request);
+        return aiAssistantService.chat(request, userId)
+                                 .map(ResponseEntity::ok);
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * AI 어시스턴트 채팅 스트리밍 (SSE)
+     * POST /api/messages/ai-chat/stream
+     * event: token (생성 중인 토큰) → done (저장된 최종 응답) 또는 error
+     */
+    @PostMapping(value = "/ai-chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> aiChatStream(@Valid @RequestBody AIChatRequest request,
+                                                      @CurrentUser Long userId) {
+        logger.info("Received AI chat stream request: workspaceUserId={}, query={}",
+                request.getWorkspaceUserId(), request.getQuery());
+
+        return aiAssistantService.chatStream(request, userId);
     }
 }
@@ -0,0 +1,19 @@
+package run.prizm.core.message.dto;
+
+import run.prizm.core.common.constraint.Language;
+import run.prizm.core.message.constraint.MessageType;
+
+/**
+ * 문서 분석 대상 메시지 projection (첨부 파일 / 업로더가 없으면 null)
+ */
+public record AnalysisSource(
+        Long messageId,
+        Long channelId,
+        Long workspaceId,
+        MessageType type,
+        String filePath,
+        String fileName,
+        String fileExtension,
+        Language uploaderLanguage
+) {
+}
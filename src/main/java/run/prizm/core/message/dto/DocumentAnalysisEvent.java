@@ -0,0 +1,24 @@
+package run.prizm.core.message.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import run.prizm.core.message.constraint.DocumentAnalysisStatus;
+
+/**
+ * 문서 분석 진행 상태 이벤트 (/topic/channel/{channelId} 로 전송, event 로 메시지 이벤트와 구분)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DocumentAnalysisEvent(
+        String event,
+        Long messageId,
+        Long channelId,
+        DocumentAnalysisStatus status,
+        int attempt,
+        String error
+) {
+
+    public static final String EVENT = "DOCUMENT_ANALYSIS";
+
+    public static DocumentAnalysisEvent of(DocumentAnalysisJob job, DocumentAnalysisStatus status, String error) {
+        return new DocumentAnalysisEvent(EVENT, job.messageId(), job.channelId(), status, job.attempt(), error);
+    }
+}
@@ -0,0 +1,16 @@
+package run.prizm.core.message.dto;
+
+/**
+ * 문서 분석 작업 큐 메시지 (attempt 는 1부터)
+ */
+public record DocumentAnalysisJob(
+        Long messageId,
+        Long channelId,
+        Long workspaceId,
+        int attempt
+) {
+
+    public DocumentAnalysisJob nextAttempt() {
+        return new DocumentAnalysisJob(messageId, channelId, workspaceId, attempt + 1);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import run.prizm.core.message.constraint.MessageType;
 import run.prizm.core.message.entity.Message;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshot;
 
 import java.time.Instant;
 
@@ -80,4 +81,24 @@ public class MessageResponse {
         
         return builder.build();
     }
+
+    /**
+     * 방금 저장한 메시지를 발신자 스냅샷으로 변환 (연관 엔티티 Lazy Loading 없음)
+     */
+    public static MessageResponse of(Message message, WorkspaceUserSnapshot sender) {
+        return MessageResponse.builder()
+                .id(message.getId())
+                .channelId(message.getChannel().getId())
+                .workspaceUserId(sender.id())
+                .userId(String.valueOf(sender.userId()))
+                .username(sender.name())
+                .userAvatar(sender.avatarPath())
+                .type(message.getType())
+                .content(message.getContent())
+                .edited(message.isEdited())
+                .pinned(message.isPinned())
+                .createdAt(message.getCreatedAt())
+                .updatedAt(message.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,21 @@
+package run.prizm.core.message.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 일괄 번역 요청
+ * messageIds 가 있으면 해당 메시지만, 없으면 before / after 커서 기준 히스토리 구간(limit 개)을 번역한다.
+ */
+public record TranslationBatchRequest(
+        @NotNull Long channelId,
+        @Size(max = 100) List<Long> messageIds,
+        Long before,
+        Long after,
+        Integer limit,
+        @NotBlank String targetLang
+) {
+}
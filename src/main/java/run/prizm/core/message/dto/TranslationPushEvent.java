@@ -0,0 +1,15 @@
+package run.prizm.core.message.dto;
+
+import java.util.List;
+
+/**
+ * 자동 번역 결과 전달 이벤트 (translation.push fanout 으로 모든 노드에 전달)
+ * 각 노드는 userIds 중 자기 노드에 연결된 세션에만 /user/queue/translation 으로 전송한다.
+ */
+public record TranslationPushEvent(
+        Long messageId,
+        String translatedContent,
+        String targetLang,
+        List<Long> userIds
+) {
+}
@@ -0,0 +1,13 @@
+package run.prizm.core.message.dto;
+
+import run.prizm.core.message.constraint.MessageType;
+
+/**
+ * 일괄 번역 대상 메시지 projection (발신자 등 연관 엔티티 로딩 없음)
+ */
+public record TranslationSource(
+        Long id,
+        MessageType type,
+        String content
+) {
+}
@@ -0,0 +1,37 @@
+package run.prizm.core.message.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import run.prizm.core.common.id.UuidV7LongGeneratedValue;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "message_outbox")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageOutbox {
+
+    @Id
+    @GeneratedValue
+    @UuidV7LongGeneratedValue
+    private Long id;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    @Column(nullable = false)
+    private String payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Builder
+    public MessageOutbox(String routingKey, String payload) {
+        this.routingKey = routingKey;
+        this.payload = payload;
+    }
+}
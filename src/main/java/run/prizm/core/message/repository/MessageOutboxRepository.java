@@ -0,0 +1,15 @@
+package run.prizm.core.message.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import run.prizm.core.message.entity.MessageOutbox;
+
+import java.util.List;
+
+public interface MessageOutboxRepository extends JpaRepository<MessageOutbox, Long> {
+
+    // 여러 노드의 relay 가 동시에 돌아도 같은 행을 중복 발행하지 않도록 SKIP LOCKED
+    @Query(value = "SELECT * FROM message_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<MessageOutbox> findBatchForUpdate(int limit);
+}
@@ -4,20 +4,50 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import run.prizm.core.message.dto.AnalysisSource;
+import run.prizm.core.message.dto.TranslationSource;
 import run.prizm.core.message.entity.Message;
 import run.prizm.core.space.channel.entity.Channel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
     long countByChannel(Channel channel);
     
+    // 히스토리 조회: id 는 시간순 정렬(UUIDv7 기반)이므로 (channel_id, id) 키셋 커서로 페이지를 자른다.
+    // 발신자 정보(workspaceUser, user, image)는 한 번의 조인으로 함께 가져온다.
     @Query("SELECT m FROM Message m " +
+           "LEFT JOIN FETCH m.workspaceUser wu " +
+           "LEFT JOIN FETCH wu.user " +
+           "LEFT JOIN FETCH wu.image " +
            "WHERE m.channel.id = :channelId " +
-           "ORDER BY m.createdAt DESC")
-    List<Message> findByChannelIdOrderByCreatedAtDesc(
-            @Param("channelId") Long channelId, 
+           "ORDER BY m.id DESC")
+    List<Message> findLatestWithSender(
+            @Param("channelId") Long channelId,
+            Pageable pageable);
+
+    @Query("SELECT m FROM Message m " +
+           "LEFT JOIN FETCH m.workspaceUser wu " +
+           "LEFT JOIN FETCH wu.user " +
+           "LEFT JOIN FETCH wu.image " +
+           "WHERE m.channel.id = :channelId AND m.id < :before " +
+           "ORDER BY m.id DESC")
+    List<Message> findBeforeWithSender(
+            @Param("channelId") Long channelId,
+            @Param("before") Long before,
+            Pageable pageable);
+
+    @Query("SELECT m FROM Message m " +
+           "LEFT JOIN FETCH m.workspaceUser wu " +
+           "LEFT JOIN FETCH wu.user " +
+           "LEFT JOIN FETCH wu.image " +
+           "WHERE m.channel.id = :channelId AND m.id > :after " +
+           "ORDER BY m.id ASC")
+    List<Message> findAfterWithSender(
+            @Param("channelId") Long channelId,
+            @Param("after") Long after,
             Pageable pageable);
     
     @Query("SELECT m FROM Message m " +
@@ -29,4 +59,26 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
            "LEFT JOIN FETCH m.thread " +
            "WHERE m.id = :id")
     Optional<Message> findByIdWithRelations(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // 번역 권한 확인: 메시지가 속한 채널
+    @Query("SELECT m.channel.id FROM Message m WHERE m.id = :id AND m.deletedAt IS NULL")
+    Optional<Long> findChannelIdById(@Param("id") Long id);
+
+    // 일괄 번역: 채널에 속한 메시지만 본문까지 projection 으로 조회
+    @Query("SELECT new run.prizm.core.message.dto.TranslationSource(m.id, m.type, m.content) FROM Message m " +
+           "WHERE m.channel.id = :channelId AND m.id IN :ids AND m.deletedAt IS NULL " +
+           "ORDER BY m.id ASC")
+    List<TranslationSource> findTranslationSources(
+            @Param("channelId") Long channelId,
+            @Param("ids") Collection<Long> ids);
+
+    // 문서 분석: 메시지, 첨부 파일, 업로더 언어를 한 번에 조회
+    @Query("SELECT new run.prizm.core.message.dto.AnalysisSource(m.id, m.channel.id, c.workspace.id, m.type, " +
+           "f.path, f.name, f.extension, u.language) FROM Message m " +
+           "JOIN m.channel c " +
+           "LEFT JOIN m.file f " +
+           "LEFT JOIN m.workspaceUser wu " +
+           "LEFT JOIN wu.user u " +
+           "WHERE m.id = :id AND m.deletedAt IS NULL")
+    Optional<AnalysisSource> findAnalysisSource(@Param("id") Long id);
+}
@@ -4,8 +4,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import run.prizm.core.common.constraint.Language;
 import run.prizm.core.message.entity.MessageTranslation;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MessageTranslationRepository extends JpaRepository<MessageTranslation, Long> {
     Optional<MessageTranslation> findByMessageIdAndLanguage(Long message_id, Language language);
-}
\ No newline at end of file
+
+    List<MessageTranslation> findByMessageIdInAndLanguage(Collection<Long> messageIds, Language language);
+}
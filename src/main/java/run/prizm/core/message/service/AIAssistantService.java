@@ -1,14 +1,20 @@
 package run.prizm.core.message.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.message.cache.AssistantAnswerCache;
 import run.prizm.core.message.constraint.MessageType;
 import run.prizm.core.message.dto.AIChatRequest;
 import run.prizm.core.message.dto.AIChatResponse;
@@ -18,10 +24,13 @@ import run.prizm.core.message.repository.MessageRepository;
 import run.prizm.core.space.airag.permission.AiRagPermissionChecker;
 import run.prizm.core.space.channel.entity.Channel;
 import run.prizm.core.space.channel.repository.ChannelRepository;
+import run.prizm.core.storage.ai.AiClient;
+import run.prizm.core.storage.ai.AiEndpoint;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,70 +38,211 @@ import java.util.stream.Collectors;
 public class AIAssistantService {
 
     private static final Logger logger = LoggerFactory.getLogger(AIAssistantService.class);
+    private static final String EVENT_TOKEN = "token";
+    private static final String EVENT_DONE = "done";
+    private static final String EVENT_ERROR = "error";
 
     private final ChannelRepository channelRepository;
     private final MessageRepository messageRepository;
     private final MessagePublisher messagePublisher;
-    private final WebClient.Builder webClientBuilder;
+    private final AiClient aiClient;
     private final AssistantChannelService assistantChannelService;
     private final AiRagPermissionChecker permissionChecker;
-    private final run.prizm.core.properties.UrlProperties urlProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AssistantAnswerCache assistantAnswerCache;
 
     /**
      * AI 어시스턴트 채팅 처리 (Lazy 채널 생성 포함)
+     * 블로킹 단계(권한 확인, 채널 조회, 캐시 조회, 저장)는 boundedElastic 에서 각자 짧은 트랜잭션으로 실행하고,
+     * AI 응답은 논블로킹으로 기다려 요청 스레드와 DB 커넥션을 잡아두지 않는다.
      */
-    @Transactional
-    public AIChatResponse chat(AIChatRequest request) {
+    public Mono<AIChatResponse> chat(AIChatRequest request, Long userId) {
         logger.info("Processing AI chat: workspaceUserId={}, query={}", 
                 request.getWorkspaceUserId(), request.getQuery());
 
-        // 1. 권한 체크 (GUEST는 사용 불가)
-        permissionChecker.checkAiAssistantPermission(request.getWorkspaceUserId());
+        return Mono.fromCallable(() -> prepareCached(request, userId))
+                   .subscribeOn(Schedulers.boundedElastic())
+                   .flatMap(context -> loadAnswer(context, request)
+                           .publishOn(Schedulers.boundedElastic())
+                           .map(aiResponse -> {
+                               // AI 응답 메시지 저장 및 브로드캐스트
+                               String answer = (String) aiResponse.get("answer");
+                               Long messageId = saveAnswer(context.channelId(), answer);
+                               return toResponse(messageId, answer, aiResponse);
+                           }));
+    }
+
+    /**
+     * 같은 코퍼스 세대의 같은 질문이면 캐시된 답변을, 아니면 FastAPI 에 AI 채팅을 요청해 캐시에 저장한다
+     */
+    private Mono<Map<String, Object>> loadAnswer(ChatContext context, AIChatRequest request) {
+        if (context.cached() != null) {
+            return Mono.just(context.cached());
+        }
+        return callAIChatAPI(context.workspaceId(), request.getQuery(), request.getLanguage())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(aiResponse -> assistantAnswerCache.save(context.cacheKey(), aiResponse));
+    }
+
+    /**
+     * AI 어시스턴트 채팅 스트리밍 (SSE)
+     * token 이벤트로 생성 중인 토큰을 바로 전달하고, 생성이 끝나면 메시지를 한 번 저장한 뒤 done 이벤트로 최종 응답을 보낸다.
+     * 실패 시 error 이벤트를 보내고 저장하지 않는다. 요청자가 연결을 끊으면 AI 호출도 취소된다.
+     */
+    public Flux<ServerSentEvent<Object>> chatStream(AIChatRequest request, Long userId) {
+        logger.info("Processing AI chat stream: workspaceUserId={}, query={}",
+                request.getWorkspaceUserId(), request.getQuery());
+
+        return Mono.fromCallable(() -> prepareCached(request, userId))
+                   .subscribeOn(Schedulers.boundedElastic()) // 권한 확인, 채널 조회, 캐시 조회는 블로킹
+                   .flatMapMany(context -> context.cached() != null
+                           ? replayCachedAnswer(context)
+                           : streamAnswer(context, request))
+                   .onErrorResume(error -> {
+                       logger.error("AI chat stream failed: workspaceUserId={}", request.getWorkspaceUserId(), error);
+                       String message = error instanceof BusinessException businessException
+                               ? businessException.getMessage()
+                               : "AI chat service unavailable";
+                       return Flux.just(ServerSentEvent.builder()
+                                                       .event(EVENT_ERROR)
+                                                       .data(Map.of("message", message))
+                                                       .build());
+                   });
+    }
+
+    /**
+     * 캐시된 답변은 토큰 하나로 바로 보내고 동일하게 저장한다
+     */
+    private Flux<ServerSentEvent<Object>> replayCachedAnswer(ChatContext context) {
+        String answer = (String) context.cached()
+                                        .get("answer");
+        ServerSentEvent<Object> token = ServerSentEvent.builder()
+                                                       .event(EVENT_TOKEN)
+                                                       .data((Object) Map.of("token", answer))
+                                                       .build();
+        Mono<ServerSentEvent<Object>> done = Mono.fromCallable(() -> ServerSentEvent.builder()
+                                                                                   .event(EVENT_DONE)
+                                                                                   .data((Object) toResponse(saveAnswer(context.channelId(), answer),
+                                                                                           answer, context.cached()))
+                                                                                   .build())
+                                                 .subscribeOn(Schedulers.boundedElastic());
+        return Flux.just(token)
+                   .concatWith(done);
+    }
+
+    private Flux<ServerSentEvent<Object>> streamAnswer(ChatContext context, AIChatRequest request) {
+        StringBuilder answer = new StringBuilder();
+        AtomicReference<Map<String, Object>> result = new AtomicReference<>(Map.of());
+
+        Flux<ServerSentEvent<Object>> tokens = aiClient
+                .stream(AiEndpoint.CHAT, "/ai/chat/stream",
+                        chatRequestBody(context.workspaceId(), request.getQuery(), request.getLanguage()))
+                .concatMap(event -> {
+                    if (EVENT_DONE.equals(event.event())) {
+                        result.set(parseResult(event.data()));
+                        return Flux.empty();
+                    }
+                    if (event.data() == null) {
+                        return Flux.empty();
+                    }
+                    answer.append(event.data());
+                    // 토큰의 개행이 SSE 프레임을 깨지 않도록 JSON 으로 감싼다
+                    return Flux.just(ServerSentEvent.builder()
+                                                    .event(EVENT_TOKEN)
+                                                    .data((Object) Map.of("token", event.data()))
+                                                    .build());
+                });
+
+        Mono<ServerSentEvent<Object>> done = Mono.fromCallable(() -> {
+                                                     Map<String, Object> aiResponse = result.get();
+                                                     // AI 서비스가 최종 답변을 주면 그것을 저장한다
+                                                     String text = aiResponse.get("answer") instanceof String finalAnswer
+                                                             ? finalAnswer
+                                                             : answer.toString();
+                                                     Long messageId = saveAnswer(context.channelId(), text);
+                                                     assistantAnswerCache.save(context.cacheKey(), answerForCache(text, aiResponse));
+                                                     return ServerSentEvent.builder()
+                                                                           .event(EVENT_DONE)
+                                                                           .data((Object) toResponse(messageId, text, aiResponse))
+                                                                           .build();
+                                                 })
+                                                 .subscribeOn(Schedulers.boundedElastic());
+
+        return tokens.concatWith(done);
+    }
+
+    private Map<String, Object> answerForCache(String answer, Map<String, Object> aiResponse) {
+        Map<String, Object> cached = new HashMap<>(aiResponse);
+        cached.put("answer", answer);
+        return cached;
+    }
+
+    /**
+     * 권한 확인, 어시스턴트 채널 조회/생성, 첫 메시지면 제목 생성 시작 (각 단계는 자체 트랜잭션)
+     * 답변 캐시도 함께 조회한다.
+     */
+    private ChatContext prepareCached(AIChatRequest request, Long userId) {
+        ChatContext context = prepare(request, userId);
+        AssistantAnswerCache.Key cacheKey = assistantAnswerCache.key(context.workspaceId(), request.getLanguage(),
+                request.getQuery());
+        return new ChatContext(context.channelId(), context.workspaceId(), cacheKey,
+                assistantAnswerCache.find(cacheKey));
+    }
+
+    /**
+     * 권한 확인, 어시스턴트 채널 조회/생성, 첫 메시지면 제목 생성 시작 (각 단계는 자체 트랜잭션)
+     */
+    private ChatContext prepare(AIChatRequest request, Long userId) {
+        // 1. 권한 체크 (요청자 본인의 WorkspaceUser 인지, GUEST는 사용 불가)
+        permissionChecker.checkAiAssistantPermission(request.getWorkspaceUserId(), userId);
 
         // 2. AI 어시스턴트 채널 조회 또는 생성 (Lazy Creation)
         Channel channel = assistantChannelService.getOrCreateAssistantChannel(request.getWorkspaceUserId());
-        
+
         // 3. 첫 메시지인 경우 채널 제목 생성 (비동기)
         boolean isFirstMessage = messageRepository.countByChannel(channel) == 0;
         if (isFirstMessage) {
             // 제목 생성은 비동기로 처리 (응답 속도 우선)
-            assistantChannelService.updateChannelTitle(
-                channel.getId(), 
-                request.getQuery(), 
-                request.getLanguage()
-            );
+            Long channelId = channel.getId();
+            Mono.fromRunnable(() -> assistantChannelService.updateChannelTitle(
+                        channelId,
+                        request.getQuery(),
+                        request.getLanguage()
+                ))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, error -> logger.warn("Failed to update assistant channel title: channelId={}",
+                        channelId, error));
         }
 
-        // 4. FastAPI에 AI 채팅 요청
-        Map<String, Object> aiResponse = callAIChatAPI(
-                channel.getWorkspace().getId(),
-                request.getQuery(),
-                request.getLanguage()
-        );
+        return new ChatContext(channel.getId(), channel.getWorkspace()
+                                                       .getId(), null, null);
+    }
+
+    /**
+     * AI 응답 메시지 저장 (workspaceUser = null) 후 브로드캐스트, 커밋 이후 outbox 로 발행된다
+     */
+    private Long saveAnswer(Long channelId, String answer) {
+        return transactionTemplate.execute(status -> {
+            Message aiMessage = Message.builder()
+                    .channel(channelRepository.getReferenceById(channelId))
+                    .workspaceUser(null)  // AI가 보낸 메시지
+                    .type(MessageType.TEXT)
+                    .content(answer)
+                    .edited(false)
+                    .pinned(false)
+                    .build();
+
+            aiMessage = messageRepository.save(aiMessage);
+            logger.info("AI message saved: messageId={}", aiMessage.getId());
 
-        // 4. AI 응답 메시지 저장 (workspaceUser = null)
-        String answer = (String) aiResponse.get("answer");
-        Message aiMessage = Message.builder()
-                .channel(channel)
-                .workspaceUser(null)  // AI가 보낸 메시지
-                .type(MessageType.TEXT)
-                .content(answer)
-                .edited(false)
-                .pinned(false)
-                .build();
-        
-        aiMessage = messageRepository.save(aiMessage);
-        messageRepository.flush(); // Force flush to DB
-        logger.info("AI message saved: messageId={}", aiMessage.getId());
-
-        // Convert to DTO
-        MessageResponse messageResponse = MessageResponse.from(aiMessage);
-
-        // 5. RabbitMQ로 메시지 브로드캐스트
-        messagePublisher.publishMessageCreated(messageResponse);
-
-        // 6. 응답 생성
-        List<?> sourcesRaw = (List<?>) aiResponse.get("sources");
+            messagePublisher.publishMessageCreated(MessageResponse.from(aiMessage));
+            return aiMessage.getId();
+        });
+    }
+
+    private AIChatResponse toResponse(Long messageId, String answer, Map<String, Object> aiResponse) {
+        List<?> sourcesRaw = aiResponse.get("sources") instanceof List<?> list ? list : List.of();
         List<AIChatResponse.SourceInfo> sources = sourcesRaw.stream()
                 .map(obj -> {
                     Map<String, Object> source = (Map<String, Object>) obj;
@@ -104,42 +254,53 @@ public class AIAssistantService {
                 })
                 .collect(Collectors.toList());
 
-        boolean hasContext = (Boolean) aiResponse.get("has_context");
+        boolean hasContext = Boolean.TRUE.equals(aiResponse.get("has_context"));
 
         return new AIChatResponse(
-                aiMessage.getId(),
+                messageId,
                 answer,
                 sources,
                 hasContext
         );
     }
 
+    private Map<String, Object> parseResult(String data) {
+        if (data == null || data.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(data, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to parse AI chat stream result", e);
+            return Map.of();
+        }
+    }
+
+    private Map<String, Object> chatRequestBody(Long workspaceId, String query, String language) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("workspace_id", workspaceId);
+        requestBody.put("query", query);
+        requestBody.put("language", language);
+        requestBody.put("search_limit", 5);
+        return requestBody;
+    }
+
     /**
      * FastAPI AI 채팅 API 호출
      */
-    private Map<String, Object> callAIChatAPI(Long workspaceId, String query, String language) {
-        try {
-            WebClient webClient = webClientBuilder.baseUrl(urlProperties.getServiceAiUrl()).build();
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("workspace_id", workspaceId);
-            requestBody.put("query", query);
-            requestBody.put("language", language);
-            requestBody.put("search_limit", 5);
-
-            Map response = webClient.post()
-                    .uri("/ai/chat")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            logger.info("AI chat API call successful");
-            return response;
-
-        } catch (Exception e) {
-            logger.error("AI chat API call failed", e);
-            throw new BusinessException(ErrorCode.TRANSLATION_FAILED, "AI chat service unavailable");
-        }
+    @SuppressWarnings("unchecked")
+    private Mono<Map<String, Object>> callAIChatAPI(Long workspaceId, String query, String language) {
+        return aiClient.post(AiEndpoint.CHAT, "/ai/chat", chatRequestBody(workspaceId, query, language), Map.class)
+                       .map(response -> (Map<String, Object>) response)
+                       .doOnNext(response -> logger.info("AI chat API call successful"))
+                       .doOnError(error -> logger.error("AI chat API call failed", error))
+                       // 벌크헤드/서킷 브레이커의 AI_SERVICE_BUSY, AI_SERVICE_UNAVAILABLE은 그대로 전달해 429/503을 유지
+                       .onErrorMap(error -> !(error instanceof BusinessException),
+                               error -> new BusinessException(ErrorCode.TRANSLATION_FAILED, "AI chat service unavailable"));
+    }
+
+    private record ChatContext(Long channelId, Long workspaceId, AssistantAnswerCache.Key cacheKey,
+                               Map<String, Object> cached) {
     }
 }
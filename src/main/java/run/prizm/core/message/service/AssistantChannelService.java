@@ -6,7 +6,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 import run.prizm.core.space.airag.permission.AiRagPermissionChecker;
@@ -14,10 +13,13 @@ import run.prizm.core.space.channel.constraint.ChannelType;
 import run.prizm.core.space.channel.constraint.ChannelWorkspaceUserNotify;
 import run.prizm.core.space.channel.entity.Channel;
 import run.prizm.core.space.channel.entity.ChannelWorkspaceUser;
+import run.prizm.core.space.channel.permission.ChannelPermissionEngine;
 import run.prizm.core.space.channel.repository.ChannelRepository;
 import run.prizm.core.space.channel.repository.ChannelWorkspaceUserRepository;
 import run.prizm.core.space.workspace.entity.Workspace;
 import run.prizm.core.space.workspace.entity.WorkspaceUser;
+import run.prizm.core.storage.ai.AiClient;
+import run.prizm.core.storage.ai.AiEndpoint;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -33,8 +35,8 @@ public class AssistantChannelService {
     private final ChannelRepository channelRepository;
     private final ChannelWorkspaceUserRepository channelWorkspaceUserRepository;
     private final AiRagPermissionChecker permissionChecker;
-    private final WebClient.Builder webClientBuilder;
-    private final run.prizm.core.properties.UrlProperties urlProperties;
+    private final ChannelPermissionEngine channelPermissionEngine;
+    private final AiClient aiClient;
 
     /**
      * AI 어시스턴트 채널 조회 또는 생성 (Lazy Creation)
@@ -106,6 +108,7 @@ public class AssistantChannelService {
                 .build();
 
         channelWorkspaceUserRepository.save(channelWorkspaceUser);
+        channelPermissionEngine.invalidate(workspace.getId());
 
         logger.info("Created ASSISTANT channel: id={}, workspaceUserId={}", 
                 channel.getId(), workspaceUser.getId());
@@ -144,17 +147,11 @@ public class AssistantChannelService {
      */
     private String generateTitleFromAI(String firstMessage, String language) {
         try {
-            WebClient webClient = webClientBuilder.baseUrl(urlProperties.getServiceAiUrl()).build();
-
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("first_message", firstMessage);
             requestBody.put("language", language);
 
-            Map response = webClient.post()
-                    .uri("/ai/chat/title")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
+            Map response = aiClient.post(AiEndpoint.CHAT_TITLE, "/ai/chat/title", requestBody, Map.class)
                     .block();
 
             String title = (String) response.get("title");
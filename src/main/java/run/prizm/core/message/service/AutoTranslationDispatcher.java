@@ -0,0 +1,257 @@
+package run.prizm.core.message.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import run.prizm.core.common.constraint.Language;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.message.dto.TranslationSource;
+import run.prizm.core.properties.AutoTranslationProperties;
+import run.prizm.core.space.channel.cache.ChannelSnapshot;
+import run.prizm.core.space.channel.cache.ChannelSnapshotCache;
+import run.prizm.core.space.channel.dto.ChannelMemberLanguage;
+import run.prizm.core.space.channel.permission.ChannelPermission;
+import run.prizm.core.space.channel.permission.ChannelPermissionEngine;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동 번역 채널의 새 메시지를 멤버 언어로 미리 번역
+ * 발행된 메시지를 워크스페이스별 대기열에 모았다가 주기마다 묶음으로 꺼내,
+ * 멤버 언어 조회는 묶음당 한 번, 번역 호출은 워크스페이스별 토큰 버킷(메시지 x 대상 언어) 안에서 수행한다.
+ * 워크스페이스마다 한 묶음이 끝나야 다음 묶음을 꺼내므로, 그 사이 들어온 메시지는 다음 묶음에 모인다.
+ * 대기열과 토큰 버킷은 노드 메모리에 있어, 워크스페이스의 실제 번역 한도는 translations-per-minute x 노드 수이다.
+ * 결과는 message_translations 에 저장되고, translation.push fanout 을 거쳐 각 노드에서
+ * 해당 언어 멤버의 /user/queue/translation 으로 전송된다.
+ * 메트릭: prizm.translation.auto{outcome=queued|dropped|translated|failed}
+ */
+@Component
+public class AutoTranslationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoTranslationDispatcher.class);
+    // 한 묶음 안에서 동시에 진행하는 번역 수 (전체 한도는 translate-background bulkhead)
+    private static final int CONCURRENCY_PER_WORKSPACE = 4;
+
+    private final ChannelSnapshotCache channelSnapshotCache;
+    private final ChannelPermissionEngine channelPermissionEngine;
+    private final WorkspaceUserRepository workspaceUserRepository;
+    private final TranslationService translationService;
+    private final AutoTranslationProperties properties;
+    private final Map<Long, WorkspaceQueue> queues = new ConcurrentHashMap<>();
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter translated;
+    private final Counter failed;
+
+    public AutoTranslationDispatcher(ChannelSnapshotCache channelSnapshotCache,
+                                     ChannelPermissionEngine channelPermissionEngine,
+                                     WorkspaceUserRepository workspaceUserRepository,
+                                     TranslationService translationService, AutoTranslationProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.channelSnapshotCache = channelSnapshotCache;
+        this.channelPermissionEngine = channelPermissionEngine;
+        this.workspaceUserRepository = workspaceUserRepository;
+        this.translationService = translationService;
+        this.properties = properties;
+        this.queued = counter(meterRegistry, "queued");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.translated = counter(meterRegistry, "translated");
+        this.failed = counter(meterRegistry, "failed");
+    }
+
+    /**
+     * 발행된 메시지 중 자동 번역 채널의 번역 가능한 메시지를 대기열에 넣는다 (메시지 발행을 실패시키지 않음)
+     */
+    public void enqueue(List<MessageResponse> messages) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (MessageResponse message : messages) {
+            try {
+                if (message.getContent() == null || !translationService.isTranslatable(message.getType(),
+                        message.getContent())) {
+                    continue;
+                }
+                ChannelSnapshot channel = channelSnapshotCache.get(message.getChannelId());
+                if (channel.autoTranslate()) {
+                    offer(channel.workspaceId(), new Pending(message.getChannelId(), message.getUserId(),
+                            new TranslationSource(message.getId(), message.getType(), message.getContent())));
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to queue auto translation: messageId={}, channelId={}",
+                        message.getId(), message.getChannelId(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${prizm.ai.auto-translate.flush-interval-millis:500}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        queues.forEach((workspaceId, queue) -> {
+            List<Pending> batch = queue.poll(now);
+            if (!batch.isEmpty()) {
+                dispatch(workspaceId, queue, batch);
+            }
+        });
+        // 비어 있고 토큰이 가득 찬 대기열은 지워도 상태를 잃지 않는다
+        queues.keySet()
+              .forEach(workspaceId -> queues.computeIfPresent(workspaceId,
+                      (id, queue) -> queue.isIdle(now) ? null : queue));
+    }
+
+    private void offer(Long workspaceId, Pending pending) {
+        queues.compute(workspaceId, (id, queue) -> {
+            WorkspaceQueue target = queue != null ? queue : new WorkspaceQueue(System.currentTimeMillis());
+            if (target.offer(pending)) {
+                queued.increment();
+            } else {
+                dropped.increment();
+                logger.warn("Auto translation queue full, skipping: workspaceId={}, messageId={}",
+                        workspaceId, pending.source()
+                                            .id());
+            }
+            return target;
+        });
+    }
+
+    private void dispatch(Long workspaceId, WorkspaceQueue queue, List<Pending> batch) {
+        Mono.fromCallable(() -> resolveTargets(workspaceId, batch))
+            .subscribeOn(Schedulers.boundedElastic())
+            .doOnNext(targets -> queue.charge(targets.size()))
+            .flatMapMany(Flux::fromIterable)
+            .flatMap(target -> translationService.translateForMembers(target.source(), target.language(),
+                                                          target.userIds())
+                                                  .doOnSuccess(ignored -> translated.increment())
+                                                  .onErrorResume(error -> {
+                                                      failed.increment();
+                                                      logger.warn("Auto translation failed: messageId={}, language={}",
+                                                              target.source()
+                                                                    .id(), target.language(), error);
+                                                      return Mono.empty();
+                                                  }), CONCURRENCY_PER_WORKSPACE)
+            .doFinally(signal -> queue.release())
+            .subscribe(null, error -> logger.error("Auto translation batch failed: workspaceId={}, messages={}",
+                    workspaceId, batch.size(), error));
+    }
+
+    /**
+     * 메시지별 대상 언어와 수신자 계산 (블로킹)
+     * 발신자 언어는 원문 언어로 보고 제외하며, 멤버 언어는 묶음당 한 번만 조회한다.
+     */
+    private List<Target> resolveTargets(Long workspaceId, List<Pending> batch) {
+        List<ChannelMemberLanguage> members = workspaceUserRepository.findMemberLanguagesByWorkspaceId(workspaceId);
+        Map<String, Language> languageByUserId = new HashMap<>();
+        members.forEach(member -> languageByUserId.put(String.valueOf(member.userId()), member.language()));
+
+        Map<Long, Map<Language, List<Long>>> recipientsByChannel = new HashMap<>();
+        List<Target> targets = new ArrayList<>();
+        for (Pending pending : batch) {
+            Map<Language, List<Long>> recipients = recipientsByChannel.computeIfAbsent(pending.channelId(),
+                    channelId -> recipientsByLanguage(workspaceId, channelId, members));
+            Language senderLanguage = languageByUserId.get(pending.senderUserId());
+            recipients.forEach((language, userIds) -> {
+                if (language != senderLanguage) {
+                    targets.add(new Target(pending.source(), language, userIds));
+                }
+            });
+        }
+        return targets;
+    }
+
+    private Map<Language, List<Long>> recipientsByLanguage(Long workspaceId, Long channelId,
+                                                           List<ChannelMemberLanguage> members) {
+        Map<Long, ChannelPermission> channelMembers = channelPermissionEngine.getChannelMembers(workspaceId, channelId);
+        Map<Language, List<Long>> recipients = new EnumMap<>(Language.class);
+        for (ChannelMemberLanguage member : members) {
+            ChannelPermission permission = channelMembers.get(member.workspaceUserId());
+            if (permission != null && permission != ChannelPermission.NONE) {
+                recipients.computeIfAbsent(member.language(), language -> new ArrayList<>())
+                          .add(member.userId());
+            }
+        }
+        return recipients;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("prizm.translation.auto")
+                      .tag("outcome", outcome)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * 워크스페이스별 대기열과 번역 호출 토큰 버킷
+     * 대상 언어 수는 꺼낸 뒤에야 알 수 있으므로 토큰이 1개 이상이면 꺼내고, 실제 호출 수만큼 빚으로 차감한다.
+     */
+    private final class WorkspaceQueue {
+
+        private final Deque<Pending> pending = new ArrayDeque<>();
+        private double tokens;
+        private long refilledAt;
+        private boolean dispatching;
+
+        private WorkspaceQueue(long now) {
+            this.tokens = properties.getBurst();
+            this.refilledAt = now;
+        }
+
+        synchronized boolean offer(Pending message) {
+            if (pending.size() >= properties.getMaxPendingPerWorkspace()) {
+                return false;
+            }
+            pending.addLast(message);
+            return true;
+        }
+
+        synchronized List<Pending> poll(long now) {
+            refill(now);
+            if (dispatching || pending.isEmpty() || tokens < 1) {
+                return List.of();
+            }
+            List<Pending> batch = new ArrayList<>();
+            while (batch.size() < properties.getBatchSize() && !pending.isEmpty()) {
+                batch.add(pending.pollFirst());
+            }
+            dispatching = true;
+            return batch;
+        }
+
+        synchronized void charge(int translations) {
+            tokens -= translations;
+        }
+
+        synchronized void release() {
+            dispatching = false;
+        }
+
+        synchronized boolean isIdle(long now) {
+            refill(now);
+            return !dispatching && pending.isEmpty() && tokens >= properties.getBurst();
+        }
+
+        private void refill(long now) {
+            double perMillis = properties.getTranslationsPerMinute() / 60_000.0;
+            tokens = Math.min(properties.getBurst(), tokens + (now - refilledAt) * perMillis);
+            refilledAt = now;
+        }
+    }
+
+    private record Pending(Long channelId, String senderUserId, TranslationSource source) {
+    }
+
+    private record Target(TranslationSource source, Language language, List<Long> userIds) {
+    }
+}
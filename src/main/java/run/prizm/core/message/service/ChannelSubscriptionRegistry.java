@@ -0,0 +1,260 @@
+package run.prizm.core.message.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.stereotype.Component;
+import run.prizm.core.config.RabbitConfig;
+import run.prizm.core.properties.ChatBroadcastProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 이 노드의 WebSocket 세션이 구독 중인 채널 목록
+ * FANOUT 모드에서는 채널의 첫 구독자가 생기면 노드 큐에 room.{channelId} 를 바인딩하고,
+ * 마지막 구독자가 사라지면 바인딩을 제거한다.
+ * 구독 수는 전역 락 안에서 세고, 브로커 바인딩 호출은 락 밖에서 채널별 락으로 처리해
+ * 한 채널의 바인딩 왕복이 다른 채널의 구독 / 해제를 막지 않게 한다.
+ * 구독자가 있어도 바인딩이 끝나기 전이나 실패한 뒤에는 다른 노드의 이벤트가 오지 않으므로,
+ * 채널의 모든 이벤트를 받는지는 isBound 로 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChannelSubscriptionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelSubscriptionRegistry.class);
+    private static final String CHANNEL_TOPIC_PREFIX = "/topic/channel/";
+    private static final int BINDING_LOCK_STRIPES = 64;
+
+    private final ChatBroadcastProperties broadcastProperties;
+    private final AmqpAdmin amqpAdmin;
+    private final ConnectionFactory connectionFactory;
+    private final Queue chatQueue;
+
+    // sessionId -> (subscriptionId -> channelId)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new HashMap<>();
+    // channelId -> 로컬 구독 수
+    private final Map<Long, Integer> channelSubscriberCounts = new HashMap<>();
+    // 채널 이벤트를 빠짐없이 받지 못하게 됐을 때 호출 (마지막 구독 해제, 바인딩 실패, 브로커 재연결, 락 밖에서 호출된다)
+    private final List<Consumer<Long>> unboundListeners = new CopyOnWriteArrayList<>();
+    // 브로커에 바인딩된 채널 (채널별 바인딩 락 안에서 변경)
+    private final Set<Long> boundChannels = ConcurrentHashMap.newKeySet();
+    private final Object[] bindingLocks = createBindingLocks();
+
+    @PostConstruct
+    void registerConnectionListener() {
+        if (!isFanout()) {
+            return;
+        }
+        // 브로커 재연결 시 auto-delete 큐가 다시 만들어지므로 현재 구독 채널 바인딩을 복구
+        connectionFactory.addConnectionListener(connection -> rebindAll());
+    }
+
+    public void addUnboundListener(Consumer<Long> listener) {
+        unboundListeners.add(listener);
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        Long channelId = parseChannelId(destination);
+        if (channelId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+        apply(doSubscribe(sessionId, subscriptionId, channelId));
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        apply(doUnsubscribe(sessionId, subscriptionId));
+    }
+
+    public void disconnect(String sessionId) {
+        apply(doDisconnect(sessionId));
+    }
+
+    public synchronized boolean hasLocalSubscribers(Long channelId) {
+        return channelSubscriberCounts.containsKey(channelId);
+    }
+
+    /**
+     * 노드 큐가 채널 이벤트를 받도록 바인딩되어 있는지 (SHARED 모드에서는 항상 true)
+     */
+    public boolean isBound(Long channelId) {
+        return !isFanout() || boundChannels.contains(channelId);
+    }
+
+    public synchronized Set<Long> subscribedChannelIds() {
+        return Set.copyOf(channelSubscriberCounts.keySet());
+    }
+
+    private synchronized Changes doSubscribe(String sessionId, String subscriptionId, Long channelId) {
+        Changes changes = new Changes();
+        Long previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new HashMap<>())
+                                            .put(subscriptionId, channelId);
+        // 새 구독을 먼저 세어야 같은 채널로 재구독할 때 바인딩이 끊기지 않는다
+        int count = channelSubscriberCounts.merge(channelId, 1, Integer::sum);
+        if (count == 1) {
+            changes.acquired.add(channelId);
+        }
+        if (previous != null) {
+            release(previous, changes);
+        }
+        return changes;
+    }
+
+    private synchronized Changes doUnsubscribe(String sessionId, String subscriptionId) {
+        Changes changes = new Changes();
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return changes;
+        }
+        Long channelId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId);
+        }
+        if (channelId != null) {
+            release(channelId, changes);
+        }
+        return changes;
+    }
+
+    private synchronized Changes doDisconnect(String sessionId) {
+        Changes changes = new Changes();
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values()
+                         .forEach(channelId -> release(channelId, changes));
+        }
+        return changes;
+    }
+
+    private void release(Long channelId, Changes changes) {
+        Integer count = channelSubscriberCounts.computeIfPresent(channelId, (key, value) -> value > 1 ? value - 1 : null);
+        if (count == null) {
+            changes.released.add(channelId);
+        }
+    }
+
+    // 락 밖에서 바인딩을 맞추고 리스너를 호출
+    private void apply(Changes changes) {
+        for (Long channelId : changes.acquired) {
+            if (!syncBinding(channelId)) {
+                notifyUnbound(channelId);
+            }
+        }
+        changes.released.forEach(this::syncBinding);
+        changes.released.forEach(this::notifyUnbound);
+    }
+
+    /**
+     * 채널 바인딩을 현재 구독 수에 맞추고, 바인딩에 실패하면 false 를 반환한다
+     * 구독 / 해제가 겹쳐 호출 순서가 바뀌어도 채널별 락 안에서 최신 구독 수를 다시 읽으므로 마지막 상태로 수렴한다.
+     */
+    private boolean syncBinding(Long channelId) {
+        if (!isFanout()) {
+            return true;
+        }
+        synchronized (bindingLock(channelId)) {
+            boolean subscribed = hasLocalSubscribers(channelId);
+            if (subscribed == boundChannels.contains(channelId)) {
+                return true;
+            }
+            if (subscribed) {
+                return bind(channelId);
+            }
+            unbind(channelId);
+            return true;
+        }
+    }
+
+    private boolean bind(Long channelId) {
+        try {
+            amqpAdmin.declareBinding(binding(channelId));
+            boundChannels.add(channelId);
+            logger.debug("Bound {} to {}", chatQueue.getName(), routingKey(channelId));
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed to bind channel: channelId={}", channelId, e);
+            return false;
+        }
+    }
+
+    private void unbind(Long channelId) {
+        try {
+            amqpAdmin.removeBinding(binding(channelId));
+            boundChannels.remove(channelId);
+            logger.debug("Unbound {} from {}", chatQueue.getName(), routingKey(channelId));
+        } catch (Exception e) {
+            logger.error("Failed to unbind channel: channelId={}", channelId, e);
+        }
+    }
+
+    // 다시 만들어진 큐에는 바인딩이 없고 연결이 끊긴 동안의 이벤트도 빠졌으므로, 리스너에 알린 뒤 모두 새로 바인딩한다
+    private void rebindAll() {
+        Set<Long> lost = Set.copyOf(boundChannels);
+        boundChannels.clear();
+        lost.forEach(this::notifyUnbound);
+        for (Long channelId : subscribedChannelIds()) {
+            if (!syncBinding(channelId) && !lost.contains(channelId)) {
+                notifyUnbound(channelId);
+            }
+        }
+    }
+
+    private void notifyUnbound(Long channelId) {
+        unboundListeners.forEach(listener -> listener.accept(channelId));
+    }
+
+    private Object bindingLock(Long channelId) {
+        return bindingLocks[Math.floorMod(channelId.hashCode(), BINDING_LOCK_STRIPES)];
+    }
+
+    private static Object[] createBindingLocks() {
+        Object[] locks = new Object[BINDING_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private Binding binding(Long channelId) {
+        return new Binding(chatQueue.getName(), Binding.DestinationType.QUEUE,
+                RabbitConfig.CHAT_EXCHANGE_NAME, routingKey(channelId), null);
+    }
+
+    private String routingKey(Long channelId) {
+        return "room." + channelId;
+    }
+
+    private boolean isFanout() {
+        return broadcastProperties.getMode() == ChatBroadcastProperties.Mode.FANOUT;
+    }
+
+    private Long parseChannelId(String destination) {
+        if (destination == null || !destination.startsWith(CHANNEL_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(CHANNEL_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 전역 락 안에서 계산한 바인딩 대상 (첫 구독이 생긴 채널 / 마지막 구독이 사라진 채널)
+    private static final class Changes {
+
+        private final List<Long> acquired = new ArrayList<>();
+        private final List<Long> released = new ArrayList<>();
+    }
+}
@@ -7,10 +7,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.message.constraint.MessageType;
 import run.prizm.core.message.dto.MessageResponse;
 import run.prizm.core.message.entity.Message;
 import run.prizm.core.message.repository.MessageRepository;
+import run.prizm.core.space.channel.cache.ChannelSnapshot;
 import run.prizm.core.space.channel.repository.ChannelRepository;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshot;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -19,8 +23,34 @@ public class ChatService {
     private static final Logger logger = LoggerFactory.getLogger(ChatService.class);
     private final MessageRepository messageRepository;
     private final ChannelRepository channelRepository;
+    private final WorkspaceUserRepository workspaceUserRepository;
     private final MessagePublisher messagePublisher;
 
+    /**
+     * WebSocket 메시지 전송 경로
+     * 채널/발신자는 호출 측에서 스냅샷으로 검증하고, 여기서는 INSERT 한 번만 수행한다.
+     * 응답 DTO는 재조회 없이 이미 가지고 있는 스냅샷으로 만든다.
+     */
+    @Transactional
+    public MessageResponse sendMessage(ChannelSnapshot channel, WorkspaceUserSnapshot sender,
+                                       MessageType type, String content) {
+        Message message = Message.builder()
+                                 .channel(channelRepository.getReferenceById(channel.id()))
+                                 .workspaceUser(workspaceUserRepository.getReferenceById(sender.id()))
+                                 .type(type)
+                                 .content(content)
+                                 .build();
+
+        // flush 시점에 INSERT 및 createdAt/updatedAt 생성
+        Message savedMessage = messageRepository.saveAndFlush(message);
+        logger.debug("💾 Saved message with id: {}", savedMessage.getId());
+
+        MessageResponse messageResponse = MessageResponse.of(savedMessage, sender);
+        messagePublisher.publishMessageCreated(messageResponse);
+
+        return messageResponse;
+    }
+
     @Transactional
     public MessageResponse sendMessage(Message message) {
         // Ensure the channel exists before proceeding
@@ -0,0 +1,355 @@
+package run.prizm.core.message.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.prizm.core.common.id.UuidV7LongGenerator;
+import run.prizm.core.config.RabbitConfig;
+import run.prizm.core.message.constraint.MessageType;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.properties.ChatIngestProperties;
+import run.prizm.core.space.channel.cache.ChannelSnapshot;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshot;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 채팅 메시지 write-behind 배치 저장
+ * 검증된 메시지를 큐에 모았다가 flushInterval 또는 batchSize 단위로 한 번의 JDBC 배치 INSERT 로 저장하고,
+ * 같은 트랜잭션에서 outbox 에 기록해 저장된 메시지만 발행되도록 한다. (id 는 UuidV7LongGenerator 로 미리 할당)
+ * 클라이언트에는 이미 수락을 알렸으므로, 일시적인 DB 오류로 실패한 배치는 통째로 지연 후 다시 저장하고
+ * 재시도를 모두 쓰면 chat.ingest.dlq 로 보낸다. 재시도 대기 중에는 새 배치를 꺼내지 않아 장애 동안 DB 를 두드리지 않고,
+ * 큐가 차면 enqueue 가 false 를 반환한다.
+ * 제약 위반일 때만 건별로 다시 저장해 삭제된 채널 등 저장할 수 없는 메시지만 버린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageBatchWriter.class);
+    private static final String INSERT_SQL =
+            "INSERT INTO messages (id, channel_id, type, workspace_user_id, content, edited, pinned, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, false, false, ?, ?)";
+
+    private final ChatIngestProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MessagePublisher messagePublisher;
+    private final RabbitTemplate rabbitTemplate;
+
+    // enqueue 의 running 확인과 offer 사이에 종료가 끼어들지 않도록 종료는 쓰기 잠금으로 수행
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    // 재시도 대기 배치 (worker 스레드만 접근, 종료 시에는 worker 가 끝난 뒤 접근)
+    private final Deque<PendingRetry> retries = new ArrayDeque<>();
+    // 일시적인 실패 후 새 배치를 꺼내지 않는 시각 (System.nanoTime, worker 스레드만 접근)
+    private long pausedUntil;
+    private boolean paused;
+    private BlockingQueue<MessageResponse> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (properties.getMode() != ChatIngestProperties.Mode.BATCHED) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        worker = new Thread(this::drainLoop, "message-batch-writer");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("Message batch writer started: batchSize={}, flushInterval={}",
+                properties.getBatchSize(), properties.getFlushInterval());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        lifecycleLock.writeLock()
+                     .lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock()
+                         .unlock();
+        }
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 종료 시 남은 메시지와 재시도 대기 배치는 한 번만 시도하고, 일시적인 오류로 실패하면 dead-letter
+        // (이 시점 이후로는 enqueue 되지 않음)
+        int lastAttempt = properties.getRetryMaxAttempts();
+        List<MessageResponse> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining, lastAttempt);
+        }
+        while (!retries.isEmpty()) {
+            flush(retries.pollFirst()
+                         .batch(), lastAttempt);
+        }
+    }
+
+    /**
+     * 메시지를 배치 큐에 넣는다.
+     *
+     * @return BATCHED 모드가 아니거나 큐가 가득 차면 false (호출 측에서 DIRECT 경로로 처리)
+     */
+    public boolean enqueue(ChannelSnapshot channel, WorkspaceUserSnapshot sender, MessageType type, String content) {
+        lifecycleLock.readLock()
+                     .lock();
+        try {
+            return running && offer(channel, sender, type, content);
+        } finally {
+            lifecycleLock.readLock()
+                         .unlock();
+        }
+    }
+
+    private boolean offer(ChannelSnapshot channel, WorkspaceUserSnapshot sender, MessageType type, String content) {
+
+        // DB(TIMESTAMPTZ) 정밀도에 맞춰 마이크로초 단위로 자름
+        Instant now = Instant.now()
+                             .truncatedTo(ChronoUnit.MICROS);
+        MessageResponse message = MessageResponse.builder()
+                                                 .id(UuidV7LongGenerator.nextValue())
+                                                 .channelId(channel.id())
+                                                 .workspaceUserId(sender.id())
+                                                 .userId(String.valueOf(sender.userId()))
+                                                 .username(sender.name())
+                                                 .userAvatar(sender.avatarPath())
+                                                 .type(type)
+                                                 .content(content)
+                                                 .createdAt(now)
+                                                 .updatedAt(now)
+                                                 .build();
+
+        boolean accepted = queue.offer(message);
+        if (!accepted) {
+            logger.warn("Message batch queue is full, falling back to direct insert: channelId={}", channel.id());
+        }
+        return accepted;
+    }
+
+    private void drainLoop() {
+        long flushIntervalNanos = properties.getFlushInterval()
+                                            .toNanos();
+        int batchSize = properties.getBatchSize();
+        List<MessageResponse> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                retryDue();
+                if (paused) {
+                    // DB 장애 중에는 재시도 시각까지 새 배치를 꺼내지 않는다
+                    long pause = pausedUntil - System.nanoTime();
+                    if (pause > 0) {
+                        TimeUnit.NANOSECONDS.sleep(pause);
+                        continue;
+                    }
+                }
+
+                MessageResponse first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    MessageResponse next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                if (!batch.isEmpty()) {
+                    // stop() 이 worker 종료 뒤 재시도 대기 배치를 처리한다
+                    scheduleRetry(List.copyOf(batch), 1);
+                }
+                return;
+            } catch (Exception e) {
+                logger.error("Unexpected error in message batch writer", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 저장한다
+     * 제약 위반이면 건별로 다시 저장하고, 그 밖의 실패 (연결 / 풀 / 시간 초과 등) 는 배치를 통째로 재시도 대기시킨다.
+     *
+     * @param attempt 이미 실패한 횟수
+     * @return 일시적인 오류로 저장하지 못하면 false
+     */
+    private boolean flush(List<MessageResponse> batch, int attempt) {
+        try {
+            // 메시지 INSERT 와 outbox 기록을 같은 트랜잭션에서 처리
+            transactionTemplate.executeWithoutResult(status -> {
+                insertBatch(batch);
+                messagePublisher.publishMessagesCreated(batch);
+            });
+            paused = false;
+            logger.debug("💾 Flushed {} messages", batch.size());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 배치 중 한 건이라도 제약 위반이면 (예: 그 사이 삭제된 채널) 건별로 다시 저장
+            logger.warn("Batch insert of {} messages violates constraints, retrying one by one", batch.size(), e);
+            return insertIndividually(batch, attempt);
+        } catch (Exception e) {
+            logger.warn("Batch insert of {} messages failed, will retry the batch: attempt={}", batch.size(),
+                    attempt + 1, e);
+            scheduleRetry(List.copyOf(batch), attempt + 1);
+            return false;
+        }
+    }
+
+    private boolean insertIndividually(List<MessageResponse> batch, int attempt) {
+        int saved = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            SaveResult result = saveIndividually(batch.get(i));
+            if (result == SaveResult.SAVED) {
+                saved++;
+            } else if (result == SaveResult.TRANSIENT_FAILURE) {
+                // 건별 저장 중 DB 장애가 나면 남은 메시지를 한 배치로 재시도
+                scheduleRetry(List.copyOf(batch.subList(i, batch.size())), attempt + 1);
+                return false;
+            }
+        }
+        paused = false;
+        logger.debug("💾 Flushed {} messages", saved);
+        return true;
+    }
+
+    private SaveResult saveIndividually(MessageResponse message) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                insertBatch(List.of(message));
+                messagePublisher.publishMessageCreated(message);
+            });
+            return SaveResult.SAVED;
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 삭제된 채널 / 멤버 등 다시 시도해도 저장할 수 없는 메시지
+            logger.error("Dropping message that violates constraints: messageId={}, channelId={}",
+                    message.getId(), message.getChannelId(), e);
+            return SaveResult.REJECTED;
+        } catch (Exception e) {
+            logger.warn("Failed to save message, will retry: messageId={}, channelId={}",
+                    message.getId(), message.getChannelId(), e);
+            return SaveResult.TRANSIENT_FAILURE;
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 배치를 다시 저장 (worker 스레드)
+     * 한 배치가 일시적인 오류로 다시 실패하면 나머지는 다음 재시도 시각까지 미룬다.
+     */
+    private void retryDue() {
+        long now = System.nanoTime();
+        int pending = retries.size();
+        for (int i = 0; i < pending; i++) {
+            PendingRetry retry = retries.pollFirst();
+            if (retry.dueAt() - now > 0) {
+                retries.addLast(retry);
+                continue;
+            }
+            if (!flush(retry.batch(), retry.attempt())) {
+                return;
+            }
+        }
+    }
+
+    private void scheduleRetry(List<MessageResponse> batch, int attempt) {
+        if (attempt > properties.getRetryMaxAttempts()) {
+            batch.forEach(this::deadLetter);
+            return;
+        }
+        // 지수 백오프 (retryBackoff, 2배씩, retryMaxBackoff 까지)
+        long backoff = Math.min(properties.getRetryBackoff()
+                                          .toNanos() << Math.min(attempt - 1, 20),
+                properties.getRetryMaxBackoff()
+                          .toNanos());
+        long dueAt = System.nanoTime() + backoff;
+        retries.addLast(new PendingRetry(batch, attempt, dueAt));
+        paused = true;
+        pausedUntil = dueAt;
+    }
+
+    /**
+     * 재시도를 모두 쓴 메시지를 수동 복구용 큐로 보낸다
+     */
+    private void deadLetter(MessageResponse message) {
+        try {
+            rabbitTemplate.convertAndSend("", RabbitConfig.CHAT_INGEST_DEAD_LETTER_QUEUE_NAME, message);
+            logger.error("Message could not be saved after retries, dead-lettered: messageId={}, channelId={}",
+                    message.getId(), message.getChannelId());
+        } catch (Exception e) {
+            // 최후 수단: 복구할 수 있도록 본문까지 남긴다
+            logger.error("Failed to dead-letter unsaved message: messageId={}, channelId={}, workspaceUserId={}, " +
+                            "type={}, createdAt={}, content={}", message.getId(), message.getChannelId(),
+                    message.getWorkspaceUserId(), message.getType(), message.getCreatedAt(), message.getContent(), e);
+        }
+    }
+
+    private void insertBatch(List<MessageResponse> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+    }
+
+    private void bind(PreparedStatement ps, MessageResponse message) throws SQLException {
+        OffsetDateTime createdAt = OffsetDateTime.ofInstant(message.getCreatedAt(), ZoneOffset.UTC);
+        ps.setLong(1, message.getId());
+        ps.setLong(2, message.getChannelId());
+        ps.setString(3, message.getType()
+                               .name());
+        ps.setLong(4, message.getWorkspaceUserId());
+        ps.setString(5, message.getContent());
+        ps.setObject(6, createdAt);
+        ps.setObject(7, createdAt);
+    }
+
+    private enum SaveResult {
+        SAVED,
+        // 제약 위반 (버림)
+        REJECTED,
+        TRANSIENT_FAILURE
+    }
+
+    private record PendingRetry(List<MessageResponse> batch, int attempt, long dueAt) {
+    }
+}
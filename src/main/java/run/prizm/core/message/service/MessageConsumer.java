@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import run.prizm.core.message.cache.MessageRingCache;
 import run.prizm.core.message.dto.MessageResponse;
 
 @Service
@@ -14,20 +15,24 @@ public class MessageConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageConsumer.class);
     private final SimpMessagingTemplate messagingTemplate;
+    private final MessageRingCache messageRingCache;
 
     /**
      * RabbitMQ에서 메시지 이벤트 수신 및 WebSocket 브로드캐스트
+     * 본문 직렬화는 convertAndSend 에서 이벤트당 한 번만 일어나고, SimpleBroker 는 같은 byte[] 를 모든 구독에 넘긴다.
+     * 세션마다 남는 일은 구독별 헤더와 STOMP 프레임 조립(StompSubProtocolHandler)이다.
      */
-    @RabbitListener(queues = "chat.queue")
+    @RabbitListener(queues = "#{chatQueue.name}")
     public void handleMessageEvent(MessageResponse messageResponse) {
-        logger.info("Received message event: messageId={}, channelId={}", 
+        logger.debug("Received message event: messageId={}, channelId={}",
                 messageResponse.getId(), messageResponse.getChannelId());
 
         // WebSocket 브로드캐스트 destination
         String destination = "/topic/channel/" + messageResponse.getChannelId();
-        
+
         // 모든 채널 구독자에게 메시지 브로드캐스트
         messagingTemplate.convertAndSend(destination, messageResponse);
-        logger.info("Broadcasted message to {} - messageId: {}", destination, messageResponse.getId());
+        messageRingCache.onBroadcast(messageResponse);
+        logger.debug("Broadcasted message to {} - messageId: {}", destination, messageResponse.getId());
     }
 }
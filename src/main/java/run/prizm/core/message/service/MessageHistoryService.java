@@ -0,0 +1,87 @@
+package run.prizm.core.message.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.message.cache.MessageRingCache;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.message.entity.Message;
+import run.prizm.core.message.repository.MessageRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class MessageHistoryService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final MessageRepository messageRepository;
+    private final MessageRingCache messageRingCache;
+
+    /**
+     * 채널 메시지 히스토리 조회 (키셋 커서)
+     * before / after / around 중 하나만 지정할 수 있고, 결과는 항상 오래된 순으로 정렬된다.
+     * 커서가 없으면 최신 메시지 limit 개를 반환한다.
+     * 최근 메시지 링 캐시가 요청 구간을 덮으면 DB 를 조회하지 않는다.
+     * 각 페이지는 발신자까지 fetch join 한 단일 쿼리이므로 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않는다.
+     */
+    public List<MessageResponse> getMessages(Long channelId, Long before, Long after, Long around, int limit) {
+        int cursorCount = (before != null ? 1 : 0) + (after != null ? 1 : 0) + (around != null ? 1 : 0);
+        if (cursorCount > 1 || limit < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int size = Math.min(limit, MAX_LIMIT);
+
+        if (around == null) {
+            Optional<List<MessageResponse>> cached = messageRingCache.find(channelId, before, after, size);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        if (before != null) {
+            return toResponses(reversed(messageRepository.findBeforeWithSender(channelId, before, PageRequest.of(0, size))));
+        }
+        if (after != null) {
+            return toResponses(messageRepository.findAfterWithSender(channelId, after, PageRequest.of(0, size)));
+        }
+        if (around != null) {
+            return toResponses(findAround(channelId, around, size));
+        }
+        return messageRingCache.loadLatest(channelId, size, () -> toResponses(
+                reversed(messageRepository.findLatestWithSender(channelId, PageRequest.of(0, size)))));
+    }
+
+    /**
+     * 기준 메시지를 포함해 앞쪽 절반, 뒤쪽 나머지를 가져온다.
+     */
+    private List<Message> findAround(Long channelId, Long around, int size) {
+        int olderSize = (size + 1) / 2;
+        int newerSize = size - olderSize;
+
+        List<Message> messages = new ArrayList<>(reversed(
+                messageRepository.findBeforeWithSender(channelId, around + 1, PageRequest.of(0, olderSize))));
+        if (newerSize > 0) {
+            messages.addAll(messageRepository.findAfterWithSender(channelId, around, PageRequest.of(0, newerSize)));
+        }
+        return messages;
+    }
+
+    private List<MessageResponse> toResponses(List<Message> messages) {
+        return messages.stream()
+                       .map(MessageResponse::from)
+                       .toList();
+    }
+
+    private List<Message> reversed(List<Message> messages) {
+        List<Message> result = new ArrayList<>(messages);
+        Collections.reverse(result);
+        return result;
+    }
+}
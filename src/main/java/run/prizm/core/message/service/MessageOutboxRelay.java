@@ -0,0 +1,127 @@
+package run.prizm.core.message.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.prizm.core.message.cache.MessageRingCache;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.message.entity.MessageOutbox;
+import run.prizm.core.message.repository.MessageOutboxRepository;
+import run.prizm.core.properties.ChatOutboxProperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * message_outbox 에 쌓인 이벤트를 chat.exchange 로 배치 발행
+ * 한 배치를 모두 보낸 뒤 publisher confirm 을 한 번 기다리고, 확인된 행만 같은 트랜잭션에서 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageOutboxRelay.class);
+    private static final String EXCHANGE = "chat.exchange";
+
+    private final MessageOutboxRepository messageOutboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatOutboxProperties properties;
+    private final MessageRingCache messageRingCache;
+
+    private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "message-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean drainRequested = new AtomicBoolean(false);
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    /**
+     * outbox 커밋 직후 호출 (폴링 주기를 기다리지 않고 relay)
+     */
+    public void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            relayExecutor.execute(() -> {
+                drainRequested.set(false);
+                drain();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${prizm.chat.outbox.poll-interval-millis:200}")
+    public void poll() {
+        drain();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        relayExecutor.shutdown();
+    }
+
+    private void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed >= properties.getBatchSize());
+        } catch (Exception e) {
+            // 롤백된 행은 다음 폴링에서 다시 발행 (at-least-once)
+            logger.error("Outbox relay failed, will retry", e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private int relayBatch() {
+        List<MessageOutbox> batch = messageOutboxRepository.findBatchForUpdate(properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<MessageResponse> published = new ArrayList<>(batch.size());
+        rabbitTemplate.invoke(operations -> {
+            for (MessageOutbox entry : batch) {
+                MessageResponse payload = readPayload(entry);
+                if (payload != null) {
+                    operations.convertAndSend(EXCHANGE, entry.getRoutingKey(), payload);
+                    published.add(payload);
+                }
+            }
+            operations.waitForConfirmsOrDie(properties.getConfirmTimeout()
+                                                      .toMillis());
+            return null;
+        });
+        published.forEach(messageRingCache::onPublished);
+
+        messageOutboxRepository.deleteAllByIdInBatch(batch.stream()
+                                                          .map(MessageOutbox::getId)
+                                                          .toList());
+        logger.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+
+    private MessageResponse readPayload(MessageOutbox entry) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), MessageResponse.class);
+        } catch (IOException e) {
+            // 읽을 수 없는 행은 발행하지 않고 삭제 (relay 가 막히지 않도록)
+            logger.error("Discarding invalid outbox payload: id={}", entry.getId(), e);
+            return null;
+        }
+    }
+}
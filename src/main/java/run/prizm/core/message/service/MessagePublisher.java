@@ -1,12 +1,21 @@
 package run.prizm.core.message.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import run.prizm.core.message.cache.MessageRingCache;
 import run.prizm.core.message.dto.MessageResponse;
 import run.prizm.core.message.entity.Message;
+import run.prizm.core.message.entity.MessageOutbox;
+import run.prizm.core.message.repository.MessageOutboxRepository;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -16,29 +25,95 @@ public class MessagePublisher {
     private static final String EXCHANGE = "chat.exchange";
 
     private final RabbitTemplate rabbitTemplate;
+    private final MessageOutboxRepository messageOutboxRepository;
+    private final MessageOutboxRelay messageOutboxRelay;
+    private final ObjectMapper objectMapper;
+    private final MessageRingCache messageRingCache;
+    private final AutoTranslationDispatcher autoTranslationDispatcher;
 
     /**
      * 메시지 생성 이벤트 발행
+     * 트랜잭션 안에서 호출되면 outbox 에 기록하고, 커밋 이후 relay 가 발행한다.
      */
     public void publishMessageCreated(MessageResponse messageResponse) {
-        String routingKey = "room." + messageResponse.getChannelId();
+        publishMessagesCreated(List.of(messageResponse));
+    }
+
+    /**
+     * 메시지 생성 이벤트 일괄 발행 (배치 저장 경로용)
+     * 자동 번역 채널의 메시지는 발행(커밋) 이후 백그라운드 번역 대기열에 넣는다.
+     */
+    public void publishMessagesCreated(List<MessageResponse> messageResponses) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            messageResponses.forEach(this::sendMessageCreated);
+            autoTranslationDispatcher.enqueue(messageResponses);
+            return;
+        }
+
+        List<MessageOutbox> entries = messageResponses.stream()
+                                                      .map(this::toOutbox)
+                                                      .toList();
+        messageOutboxRepository.saveAll(entries);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                messageOutboxRelay.requestDrain();
+                autoTranslationDispatcher.enqueue(messageResponses);
+            }
+        });
+        logger.debug("Queued {} MESSAGE_CREATED events to outbox", entries.size());
+    }
+
+    private void sendMessageCreated(MessageResponse messageResponse) {
+        String routingKey = routingKey(messageResponse.getChannelId());
         
         rabbitTemplate.convertAndSend(EXCHANGE, routingKey, messageResponse);
+        messageRingCache.onPublished(messageResponse);
         logger.info("Published MESSAGE_CREATED event: messageId={}, channelId={}", 
                 messageResponse.getId(), messageResponse.getChannelId());
     }
 
+    private MessageOutbox toOutbox(MessageResponse messageResponse) {
+        try {
+            return MessageOutbox.builder()
+                                .routingKey(routingKey(messageResponse.getChannelId()))
+                                .payload(objectMapper.writeValueAsString(messageResponse))
+                                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize message event: messageId=" + messageResponse.getId(), e);
+        }
+    }
+
+    private String routingKey(Long channelId) {
+        return "room." + channelId;
+    }
+
     /**
      * 메시지 분석 완료 이벤트 발행
+     * 응답은 호출한 트랜잭션 안에서 만들고, 발행과 링 캐시 반영은 커밋 이후에 수행한다. (롤백되면 발행하지 않음)
      */
     public void publishMessageAnalyzed(Message message) {
-        String routingKey = "room." + message.getChannel().getId();
-        
         MessageResponse messageResponse = MessageResponse.from(message);
-        
-        rabbitTemplate.convertAndSend(EXCHANGE, routingKey, messageResponse);
-        logger.info("Published MESSAGE_ANALYZED event: messageId={}, channelId={}", 
-                message.getId(), message.getChannel().getId());
+        runAfterCommit(() -> {
+            rabbitTemplate.convertAndSend(EXCHANGE, routingKey(messageResponse.getChannelId()), messageResponse);
+            messageRingCache.onPublished(messageResponse);
+            logger.info("Published MESSAGE_ANALYZED event: messageId={}, channelId={}",
+                    messageResponse.getId(), messageResponse.getChannelId());
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     /**
@@ -50,6 +125,7 @@ public class MessagePublisher {
         MessageResponse messageResponse = MessageResponse.from(message);
         
         rabbitTemplate.convertAndSend(EXCHANGE, routingKey, messageResponse);
+        messageRingCache.onPublished(messageResponse);
         logger.info("Published MESSAGE_UPDATED event: messageId={}, channelId={}", 
                 message.getId(), message.getChannel().getId());
     }
@@ -3,129 +3,337 @@ package run.prizm.core.message.service;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import run.prizm.core.common.constraint.Language;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.config.TranslationPushConfig;
+import run.prizm.core.message.cache.TranslationCache;
 import run.prizm.core.message.constraint.MessageType;
+import run.prizm.core.message.dto.TranslationBatchRequest;
+import run.prizm.core.message.dto.TranslationPushEvent;
 import run.prizm.core.message.dto.TranslationResponse;
+import run.prizm.core.message.dto.TranslationSource;
 import run.prizm.core.message.entity.Message;
 import run.prizm.core.message.entity.MessageTranslation;
 import run.prizm.core.message.repository.MessageRepository;
 import run.prizm.core.message.repository.MessageTranslationRepository;
 import run.prizm.core.properties.UrlProperties;
+import run.prizm.core.storage.ai.AiClient;
+import run.prizm.core.storage.ai.AiEndpoint;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TranslationService {
 
     private static final Logger logger = LoggerFactory.getLogger(TranslationService.class);
-    private final WebClient.Builder webClientBuilder;
+    private static final int DEFAULT_BATCH_LIMIT = 50;
+    // 한 묶음에 담는 번역 API 호출 수와 본문 길이 상한 (묶음 안에서는 동시에, 묶음끼리는 순서대로 호출)
+    private static final int MAX_CHUNK_SIZE = 10;
+    private static final int MAX_CHUNK_CHARS = 8000;
     private final MessageRepository messageRepository;
     private final MessageTranslationRepository messageTranslationRepository;
     private final UrlProperties urlProperties;
     private final SimpMessagingTemplate messagingTemplate;
+    private final TranslationCache translationCache;
+    private final MessageHistoryService messageHistoryService;
+    private final AiClient aiClient;
+    private final RabbitTemplate rabbitTemplate;
 
     /**
-     * 비동기 번역 및 개인 큐로 전송
+     * 비동기 번역 및 개인 큐로 전송 (번역 API 응답을 기다리는 동안 스레드를 점유하지 않음)
      * 
      * @param messageId 메시지 ID
      * @param targetLangCode 대상 언어
      * @param userId 요청 사용자 ID
      */
-    @Async
     public CompletableFuture<Void> translateAndNotify(Long messageId, String targetLangCode, String userId) {
-        logger.info("🌐 Starting async translation: messageId={} (type: {}), targetLang={}, userId={}", 
-                messageId, messageId != null ? messageId.getClass().getSimpleName() : "null", 
-                targetLangCode, userId);
+        logger.info("🌐 Starting async translation: messageId={}, targetLang={}, userId={}",
+                messageId, targetLangCode, userId);
 
         Language targetLanguage = resolveLanguage(targetLangCode);
 
-        // 1. DB에서 번역 조회
-        MessageTranslation existingTranslation = messageTranslationRepository
-                .findByMessageIdAndLanguage(messageId, targetLanguage)
-                .orElse(null);
+        return translate(messageId, targetLanguage)
+                .doOnNext(translatedContent -> {
+                    sendTranslationToUser(userId, messageId, translatedContent, targetLangCode);
+                    logger.info("✅ Translation completed and sent to user: messageId={}, userId={}", messageId, userId);
+                })
+                .doOnError(e -> {
+                    logger.error("❌ Translation failed: messageId={}, userId={}", messageId, userId, e);
+                    // 에러를 사용자에게 전송
+                    sendTranslationError(userId, messageId, targetLangCode, e.getMessage());
+                })
+                .then()
+                .toFuture();
+    }
+
+    /**
+     * 채널 메시지 일괄 번역 후 개인 큐로 전송
+     * 캐시(L1 / L2)와 DB 에 있는 번역은 바로 보내고, 나머지는 크기 제한 묶음으로 나눠 번역이 끝나는 대로 보낸다.
+     * 채널 READ 권한 검증은 호출 측 책임이다.
+     */
+    public CompletableFuture<Void> translateBatchAndNotify(TranslationBatchRequest request, String userId) {
+        Language targetLanguage = resolveLanguage(request.targetLang());
+
+        return blocking(() -> sendStoredTranslations(request, targetLanguage, userId))
+                .flatMapMany(untranslated -> Flux.fromIterable(chunk(untranslated)))
+                .concatMap(chunk -> Flux.fromIterable(chunk)
+                                        .flatMap(source -> translateAndSend(source, targetLanguage,
+                                                request.targetLang(), userId), chunk.size()))
+                .then()
+                .doOnSuccess(ignored -> logger.info("✅ Batch translation completed: channelId={}, userId={}",
+                        request.channelId(), userId))
+                .toFuture();
+    }
+
+    /**
+     * 캐시와 DB 에 있는 번역을 보내고, 번역이 필요한 메시지를 반환한다 (블로킹)
+     */
+    private List<TranslationSource> sendStoredTranslations(TranslationBatchRequest request, Language targetLanguage,
+                                                           String userId) {
+        List<TranslationSource> sources = findBatchSources(request)
+                .stream()
+                .filter(source -> source.content() != null && isTranslatable(source.type(), source.content()))
+                .toList();
+        logger.info("🌐 Starting batch translation: channelId={}, messages={}, targetLang={}, userId={}",
+                request.channelId(), sources.size(), request.targetLang(), userId);
+
+        // 캐시는 L1 을 먼저 보고 나머지를 한 번의 MGET 으로 조회
+        Map<Long, String> cachedTranslations = translationCache.findAll(sources.stream()
+                                                                               .map(TranslationSource::id)
+                                                                               .toList(), targetLanguage);
+        List<TranslationSource> misses = new ArrayList<>();
+        for (TranslationSource source : sources) {
+            String cached = cachedTranslations.get(source.id());
+            if (cached != null) {
+                sendTranslationToUser(userId, source.id(), cached, request.targetLang());
+            } else {
+                misses.add(source);
+            }
+        }
+        if (misses.isEmpty()) {
+            return misses;
+        }
 
-        if (existingTranslation != null) {
-            // 이미 번역 존재 - 즉시 전송
-            sendTranslationToUser(userId, messageId, existingTranslation.getContent(), targetLangCode);
-            logger.info("✅ Sent existing translation to user: {}", userId);
-            return CompletableFuture.completedFuture(null);
+        // 이미 저장된 번역은 한 번의 쿼리로 조회
+        Map<Long, String> stored = messageTranslationRepository
+                .findByMessageIdInAndLanguage(misses.stream()
+                                                    .map(TranslationSource::id)
+                                                    .toList(), targetLanguage)
+                .stream()
+                .collect(Collectors.toMap(translation -> translation.getMessage()
+                                                                    .getId(),
+                        MessageTranslation::getContent, (first, second) -> first));
+
+        List<TranslationSource> untranslated = new ArrayList<>();
+        for (TranslationSource source : misses) {
+            String content = stored.get(source.id());
+            if (content != null) {
+                translationCache.put(source.id(), targetLanguage, content);
+                sendTranslationToUser(userId, source.id(), content, request.targetLang());
+            } else {
+                untranslated.add(source);
+            }
         }
+        return untranslated;
+    }
 
-        // 2. 메시지 조회 및 번역 가능 여부 확인
+    private List<TranslationSource> findBatchSources(TranslationBatchRequest request) {
+        if (request.messageIds() != null && !request.messageIds()
+                                                    .isEmpty()) {
+            return messageRepository.findTranslationSources(request.channelId(), request.messageIds());
+        }
+
+        int limit = request.limit() != null ? request.limit() : DEFAULT_BATCH_LIMIT;
+        return messageHistoryService.getMessages(request.channelId(), request.before(), request.after(), null, limit)
+                                    .stream()
+                                    .map(message -> new TranslationSource(message.getId(), message.getType(),
+                                            message.getContent()))
+                                    .toList();
+    }
+
+    /**
+     * 호출 수와 본문 길이 합이 상한을 넘지 않도록 묶는다
+     */
+    private List<List<TranslationSource>> chunk(List<TranslationSource> sources) {
+        List<List<TranslationSource>> chunks = new ArrayList<>();
+        List<TranslationSource> current = new ArrayList<>();
+        int chars = 0;
+        for (TranslationSource source : sources) {
+            int length = source.content()
+                               .length();
+            if (!current.isEmpty() && (current.size() >= MAX_CHUNK_SIZE || chars + length > MAX_CHUNK_CHARS)) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                chars = 0;
+            }
+            current.add(source);
+            chars += length;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private Mono<Void> translateAndSend(TranslationSource source, Language targetLanguage, String targetLangCode,
+                                        String userId) {
+        return translationCache.get(source.id(), targetLanguage,
+                                    () -> translateAndSave(AiEndpoint.TRANSLATE, source.id(), source.content(),
+                                            targetLanguage))
+                   .doOnNext(translated -> sendTranslationToUser(userId, source.id(), translated, targetLangCode))
+                   .onErrorResume(error -> {
+                       logger.error("❌ Batch translation failed: messageId={}, userId={}", source.id(), userId, error);
+                       sendTranslationError(userId, source.id(), targetLangCode, error.getMessage());
+                       return Mono.empty();
+                   })
+                   .then();
+    }
+
+    /**
+     * 자동 번역 채널의 백그라운드 번역 후 해당 언어 멤버들의 개인 큐로 전송
+     * 사용자 요청 번역과 같은 캐시 / 진행 중 작업에 합류하지만, API 호출은 translate-background 한도를 쓴다.
+     * 멤버는 다른 노드에 연결되어 있을 수 있으므로 결과는 translation.push fanout 으로 모든 노드에 보낸다.
+     */
+    Mono<Void> translateForMembers(TranslationSource source, Language targetLanguage, Collection<Long> userIds) {
+        String targetLangCode = targetLanguage.name()
+                                              .toLowerCase();
+        return translationCache.get(source.id(), targetLanguage,
+                                    () -> translateAndSave(AiEndpoint.TRANSLATE_BACKGROUND, source.id(),
+                                            source.content(), targetLanguage))
+                               .flatMap(translated -> blocking(() -> {
+                                   publishToMembers(new TranslationPushEvent(source.id(), translated,
+                                           targetLangCode, List.copyOf(userIds)));
+                                   return translated;
+                               }))
+                               .then();
+    }
+
+    /**
+     * 다른 노드를 포함한 자동 번역 결과를 이 노드에 연결된 멤버에게 전송
+     * 연결된 세션이 없는 사용자에게 보낸 메시지는 브로커가 버린다.
+     */
+    @RabbitListener(queues = "#{translationPushQueue.name}")
+    public void forwardMemberTranslation(TranslationPushEvent event) {
+        event.userIds()
+             .forEach(userId -> sendTranslationToUser(String.valueOf(userId), event.messageId(),
+                     event.translatedContent(), event.targetLang()));
+    }
+
+    // 발행에 실패하면 최소한 이 노드의 멤버에게는 전송 (다른 노드의 멤버는 다음 요청 때 저장된 번역을 받는다)
+    private void publishToMembers(TranslationPushEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(TranslationPushConfig.TRANSLATION_PUSH_EXCHANGE_NAME, "", event);
+        } catch (Exception e) {
+            logger.warn("Failed to publish auto translation, sending locally: messageId={}, targetLang={}",
+                    event.messageId(), event.targetLang(), e);
+            forwardMemberTranslation(event);
+        }
+    }
+
+    /**
+     * L1 → L2 → DB → 번역 API 순으로 조회하며, 같은 번역 요청은 하나의 API 호출에 합류한다
+     */
+    private Mono<String> translate(Long messageId, Language targetLanguage) {
+        return translationCache.get(messageId, targetLanguage, () -> loadTranslation(messageId, targetLanguage));
+    }
+
+    /**
+     * 저장된 번역을 조회하고, 없으면 번역 API 호출 후 저장
+     */
+    private Mono<String> loadTranslation(Long messageId, Language targetLanguage) {
+        return blocking(() -> messageTranslationRepository
+                .findByMessageIdAndLanguage(messageId, targetLanguage)
+                .map(MessageTranslation::getContent)
+                .orElse(null))
+                .switchIfEmpty(Mono.defer(() -> blocking(() -> findTranslatableMessage(messageId))
+                        .flatMap(message -> translateAndSave(AiEndpoint.TRANSLATE, messageId, message.getContent(),
+                                targetLanguage))));
+    }
+
+    /**
+     * 번역 요청 권한 확인용 메시지 채널 조회
+     */
+    public Long findChannelId(Long messageId) {
+        return messageRepository.findChannelIdById(messageId)
+                                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                                        "Message not found"));
+    }
+
+    private Message findTranslatableMessage(Long messageId) {
         Message message = messageRepository.findById(messageId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Message not found"));
 
-        logger.info("📝 Found message: id={}, content={}, type={}", 
-                message.getId(), 
-                message.getContent() != null ? message.getContent().substring(0, Math.min(50, message.getContent().length())) : "null",
-                message.getType());
-
         // 번역 가능 타입 검증
-        if (!isTranslatable(message)) {
+        if (!isTranslatable(message.getType(), message.getContent())) {
             logger.error("❌ Message type {} is not translatable", message.getType());
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, 
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
                     "Message type " + message.getType() + " is not translatable");
         }
+        return message;
+    }
 
-        // 3. FastAPI 번역 요청
-        try {
-            logger.info("🔄 Calling external translation API: text={}, targetLang={}", 
-                    message.getContent().substring(0, Math.min(20, message.getContent().length())), 
-                    targetLanguage);
-            
-            String translatedContent = callExternalTranslationApi(message.getContent(), targetLanguage)
-                    .block();  // Reactive → Blocking (비동기 스레드에서 실행중이므로 OK)
-
-            logger.info("✅ Translation API returned: {}", 
-                    translatedContent != null ? translatedContent.substring(0, Math.min(50, translatedContent.length())) : "null");
-
-            // 4. DB 저장
-            MessageTranslation newTranslation = MessageTranslation.builder()
-                    .message(message)
-                    .language(targetLanguage)
-                    .content(translatedContent)
-                    .build();
-            messageTranslationRepository.save(newTranslation);
-
-            // 5. 개인 큐로 전송
-            sendTranslationToUser(userId, messageId, translatedContent, targetLangCode);
-
-            logger.info("✅ Translation completed and sent to user: messageId={}, userId={}", messageId, userId);
-            return CompletableFuture.completedFuture(null);
+    /**
+     * 번역 API 호출 후 저장 (저장만 boundedElastic 에서 수행)
+     */
+    private Mono<String> translateAndSave(AiEndpoint endpoint, Long messageId, String content,
+                                          Language targetLanguage) {
+        logger.info("🔄 Calling external translation API: messageId={}, targetLang={}", messageId, targetLanguage);
+        return callExternalTranslationApi(endpoint, content, targetLanguage)
+                .flatMap(translatedContent -> blocking(() -> saveTranslation(messageId, targetLanguage,
+                        translatedContent)));
+    }
 
-        } catch (Exception e) {
-            logger.error("❌ Translation failed: messageId={}, userId={}", messageId, userId, e);
-            // 에러를 사용자에게 전송
-            sendTranslationError(userId, messageId, targetLangCode, e.getMessage());
-            return CompletableFuture.failedFuture(e);
+    private String saveTranslation(Long messageId, Language targetLanguage, String translatedContent) {
+        MessageTranslation newTranslation = MessageTranslation.builder()
+                .message(messageRepository.getReferenceById(messageId))
+                .language(targetLanguage)
+                .content(translatedContent)
+                .build();
+
+        try {
+            MessageTranslation saved = messageTranslationRepository.save(newTranslation);
+            logger.info("💾 Translation saved: id={}, messageId={}", saved.getId(), messageId);
+            return saved.getContent();
+        } catch (DataIntegrityViolationException e) {
+            // 잠금 만료 등으로 다른 노드가 먼저 저장한 경우 기존 번역 사용
+            logger.warn("⚠️ Duplicate translation detected, fetching existing: messageId={}, lang={}",
+                    messageId, targetLanguage);
+            return messageTranslationRepository
+                    .findByMessageIdAndLanguage(messageId, targetLanguage)
+                    .map(MessageTranslation::getContent)
+                    .orElse(translatedContent);
         }
     }
 
     /**
      * 번역 가능 여부 확인
      */
-    private boolean isTranslatable(Message message) {
-        MessageType type = message.getType();
-        
+    boolean isTranslatable(MessageType type, String content) {
+
         // TEXT, LINK는 항상 번역 가능
         if (type == MessageType.TEXT || type == MessageType.LINK) {
             return true;
         }
         
         // DOCUMENT는 content가 있을 때만 (요약본)
-        if (type == MessageType.DOCUMENT && message.getContent() != null && !message.getContent().isEmpty()) {
+        if (type == MessageType.DOCUMENT && content != null && !content.isEmpty()) {
             return true;
         }
         
@@ -169,84 +377,19 @@ public class TranslationService {
         );
     }
 
-    // 기존 동기 메서드 (REST API용)
-    @Transactional(readOnly = true)
+    // REST API용 (컨트롤러가 Mono 를 그대로 반환해 비동기 응답으로 처리)
     public Mono<String> getOrTranslateMessage(Long messageId, String targetLangCode) {
         logger.info("🔍 getOrTranslateMessage: messageId={}, targetLang={}", messageId, targetLangCode);
-        
-        Language targetLanguage = resolveLanguage(targetLangCode);
-        return findExistingTranslation(messageId, targetLanguage)
-                .switchIfEmpty(Mono.defer(() -> {
-                    logger.info("🔄 No existing translation, translating now: messageId={}", messageId);
-                    return translateAndSave(messageId, targetLanguage);
-                }))
-                .doOnNext(result -> logger.info("✅ Translation result ready: messageId={}, length={}", 
-                        messageId, result != null ? result.length() : 0))
-                .doOnError(error -> logger.error("❌ Translation error: messageId={}, error={}", 
-                        messageId, error.getMessage()));
-    }
-
-    private Mono<String> findExistingTranslation(Long messageId, Language targetLanguage) {
-        return Mono.fromCallable(() -> messageTranslationRepository.findByMessageIdAndLanguage(messageId, targetLanguage))
-                   .subscribeOn(Schedulers.boundedElastic()) // Delegate blocking DB call
-                   // 수정된 부분: Optional을 Mono로 올바르게 변환
-                   .flatMap(optionalTranslation -> Mono.justOrEmpty(optionalTranslation.map(MessageTranslation::getContent)));
-    }
 
-    private Mono<String> translateAndSave(Long messageId, Language targetLanguage) {
-        logger.info("💾 translateAndSave: messageId={}, targetLang={}", messageId, targetLanguage);
-        
-        Mono<Message> messageMono = Mono.fromCallable(() -> {
-                    logger.info("🔍 Finding message: messageId={}", messageId);
-                    return messageRepository.findById(messageId)
-                            .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT_VALUE, 
-                                    "Message not found with id: " + messageId));
-                })
-                .subscribeOn(Schedulers.boundedElastic());
-
-        return messageMono.flatMap(message -> {
-                    logger.info("📝 Message found, calling translation API: messageId={}, content length={}", 
-                            messageId, message.getContent() != null ? message.getContent().length() : 0);
-                    
-                    return callExternalTranslationApi(message.getContent(), targetLanguage)
-                            .flatMap(translatedContent -> {
-                                logger.info("✅ Translation received, saving to DB: messageId={}", messageId);
-                                
-                                MessageTranslation newTranslation = MessageTranslation.builder()
-                                        .message(message)
-                                        .language(targetLanguage)
-                                        .content(translatedContent)
-                                        .build();
-
-                                return Mono.fromCallable(() -> {
-                                            try {
-                                                MessageTranslation saved = messageTranslationRepository.save(newTranslation);
-                                                logger.info("💾 Translation saved: id={}, messageId={}", 
-                                                        saved.getId(), messageId);
-                                                return saved.getContent();
-                                            } catch (Exception e) {
-                                                // 중복 키 에러 발생 시 기존 번역 조회
-                                                if (e.getMessage() != null && e.getMessage().contains("duplicate key")) {
-                                                    logger.warn("⚠️ Duplicate translation detected, fetching existing: messageId={}, lang={}", 
-                                                            messageId, targetLanguage);
-                                                    return messageTranslationRepository
-                                                            .findByMessageIdAndLanguage(messageId, targetLanguage)
-                                                            .map(MessageTranslation::getContent)
-                                                            .orElse(translatedContent); // 못 찾으면 방금 번역한 것 반환
-                                                }
-                                                throw e;
-                                            }
-                                        })
-                                        .subscribeOn(Schedulers.boundedElastic());
-                            });
-                })
-                .doOnError(error -> logger.error("❌ translateAndSave failed: messageId={}, error={}", 
-                        messageId, error.getMessage(), error));
+        Language targetLanguage = resolveLanguage(targetLangCode);
+        return translate(messageId, targetLanguage)
+                   .doOnNext(result -> logger.info("✅ Translation result ready: messageId={}, length={}",
+                           messageId, result != null ? result.length() : 0))
+                   .doOnError(error -> logger.error("❌ Translation error: messageId={}, error={}",
+                           messageId, error.getMessage()));
     }
 
-    private Mono<String> callExternalTranslationApi(String text, Language targetLang) {
-        WebClient webClient = webClientBuilder.baseUrl(urlProperties.getServiceAiUrl())
-                                              .build();
+    private Mono<String> callExternalTranslationApi(AiEndpoint endpoint, String text, Language targetLang) {
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("text", text);
         requestBody.put("target_lang", targetLang.name()
@@ -255,17 +398,22 @@ public class TranslationService {
         logger.info("🔗 Calling AI service: url={}/ai/translate, text length={}, targetLang={}", 
                 urlProperties.getServiceAiUrl(), text.length(), targetLang.name().toLowerCase());
 
-        return webClient.post()
-                        .uri("/ai/translate")  // 하드코딩된 경로
-                        .bodyValue(requestBody)
-                        .retrieve()
-                        .bodyToMono(Map.class)
-                        .map(response -> {
-                            logger.info("✅ AI service response: {}", response);
-                            return (String) response.get("result");
-                        })
-                        .doOnError(error -> logger.error("❌ Translation API call failed", error))
-                        .onErrorReturn("Error: Translation failed.");
+        // 동시 호출 수, 제한 시간, 서킷 브레이커는 AiClient 의 엔드포인트 정책을 따른다
+        // 실패 응답을 번역 결과로 저장하지 않도록 오류는 그대로 전파한다
+        return aiClient.post(endpoint, "/ai/translate", requestBody, Map.class)
+                       .flatMap(response -> {
+                           logger.info("✅ AI service response: {}", response);
+                           return Mono.justOrEmpty((String) response.get("result"));
+                       })
+                       .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.TRANSLATION_FAILED,
+                               "Translation API returned no result")))
+                       .doOnError(error -> logger.error("❌ Translation API call failed", error));
+    }
+
+    // JPA / Redis 호출은 블로킹이므로 boundedElastic 에서 수행 (null 이면 empty)
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call)
+                   .subscribeOn(Schedulers.boundedElastic());
     }
 
     private Language resolveLanguage(String targetLangCode) {
@@ -0,0 +1,25 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.ai.answer-cache")
+public class AiAnswerCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 답변 보관 시간
+     */
+    private Duration ttl = Duration.ofHours(6);
+
+    /**
+     * 워크스페이스(코퍼스 세대)당 보관하는 최대 답변 수, 넘으면 오래 쓰이지 않은 답변부터 지운다
+     */
+    private int maxEntriesPerWorkspace = 500;
+}
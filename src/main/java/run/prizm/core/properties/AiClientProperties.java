@@ -0,0 +1,82 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.ai.client")
+public class AiClientProperties {
+
+    /**
+     * 모든 AI 엔드포인트가 공유하는 커넥션 풀
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * 엔드포인트별 정책이 없을 때 사용할 기본 정책
+     */
+    private Endpoint defaults = new Endpoint();
+
+    /**
+     * 엔드포인트별 정책 (translate, chat, chat-title, analyze, rag)
+     */
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    public Endpoint endpoint(String name) {
+        return endpoints.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int maxConnections = 200;
+
+        /**
+         * 커넥션을 기다릴 수 있는 최대 요청 수
+         */
+        private int pendingAcquireMaxCount = 1000;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        /**
+         * 동시에 진행하는 호출 수 (bulkhead)
+         */
+        private int maxConcurrent = 16;
+
+        /**
+         * 동시 호출 한도를 넘었을 때 대기할 수 있는 최대 요청 수 (넘으면 AI_SERVICE_BUSY)
+         */
+        private int maxQueued = 100;
+
+        /**
+         * 응답 제한 시간
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+
+        /**
+         * 연속 실패가 이 횟수에 도달하면 서킷을 연다
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * 서킷이 열린 뒤 시험 호출을 허용하기까지의 시간
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
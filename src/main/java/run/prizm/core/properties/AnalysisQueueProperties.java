@@ -0,0 +1,45 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.analysis.queue")
+public class AnalysisQueueProperties {
+
+    /**
+     * 노드당 분석 작업 소비자 수
+     */
+    private int consumers = 4;
+
+    /**
+     * 노드당 한 워크스페이스가 동시에 차지할 수 있는 소비자 수, 넘는 작업은 deferDelay 뒤 다시 큐에 들어간다
+     */
+    private int maxConcurrentPerWorkspace = 2;
+
+    /**
+     * 워크스페이스 한도로 미룬 작업이 다시 큐에 들어가기까지의 시간
+     */
+    private Duration deferDelay = Duration.ofSeconds(5);
+
+    /**
+     * 재시도 간격 (시도 횟수 = 재시도 간격 수 + 1, 모두 실패하면 dead-letter 큐로 이동)
+     */
+    private List<Duration> retryBackoffs = List.of(Duration.ofSeconds(10), Duration.ofMinutes(1),
+            Duration.ofMinutes(5));
+
+    /**
+     * messageId 중복 요청 판단용 작업 상태 보관 시간
+     */
+    private Duration statusTtl = Duration.ofHours(1);
+
+    /**
+     * 처리 중 잠금 유지 시간 (노드가 죽으면 이 시간 뒤 다른 소비자가 이어받는다)
+     */
+    private Duration lockLease = Duration.ofMinutes(5);
+}
@@ -0,0 +1,39 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.ai.auto-translate")
+public class AutoTranslationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 워크스페이스별 대기열을 비우는 주기 (밀리초)
+     */
+    private long flushIntervalMillis = 500;
+
+    /**
+     * 워크스페이스당 한 번에 꺼내는 최대 메시지 수
+     */
+    private int batchSize = 20;
+
+    /**
+     * 노드 한 대의 워크스페이스당 분당 번역 호출 수 (메시지 x 대상 언어)
+     * 토큰 버킷은 노드마다 따로 있으므로 클러스터 전체 한도는 이 값 x 노드 수이다.
+     */
+    private int translationsPerMinute = 120;
+
+    /**
+     * 노드 한 대가 한꺼번에 쓸 수 있는 최대 번역 호출 수 (클러스터 전체로는 이 값 x 노드 수)
+     */
+    private int burst = 40;
+
+    /**
+     * 워크스페이스당 대기 가능한 최대 메시지 수, 넘으면 새 메시지는 자동 번역하지 않는다
+     */
+    private int maxPendingPerWorkspace = 1000;
+}
@@ -0,0 +1,49 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.cache")
+public class CacheProperties {
+
+    /**
+     * 캐시 이름별 정책이 없을 때 사용할 기본 정책
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * 캐시 이름별 정책
+     */
+    private Map<String, Spec> specs = new HashMap<>();
+
+    public Spec spec(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * L2 (Redis) 보관 시간
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * L1 (노드 메모리) 최대 엔트리 수, 0 이면 L1 을 사용하지 않는다
+         */
+        private int localMaxSize = 1000;
+
+        /**
+         * L1 보관 시간 (pub/sub 무효화 메시지 유실 시 최대 지연)
+         */
+        private Duration localTtl = Duration.ofSeconds(30);
+    }
+}
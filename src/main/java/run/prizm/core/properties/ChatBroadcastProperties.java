@@ -0,0 +1,23 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.chat.broadcast")
+public class ChatBroadcastProperties {
+
+    /**
+     * 브로드캐스트 방식
+     * SHARED: 모든 노드가 chat.queue 를 경쟁 소비 (단일 노드용)
+     * FANOUT: 노드마다 전용 큐를 두고 로컬 구독 중인 채널의 room.{channelId} 만 바인딩
+     */
+    private Mode mode = Mode.SHARED;
+
+    public enum Mode {
+        SHARED,
+        FANOUT
+    }
+}
@@ -0,0 +1,23 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.chat.codec")
+public class ChatCodecProperties {
+
+    /**
+     * chat.exchange 로 발행할 때 사용할 포맷
+     * 수신 측은 content-type 으로 포맷을 구분하므로 JSON/BINARY 를 모두 읽을 수 있다.
+     * 모든 노드가 BINARY 를 읽을 수 있게 배포된 뒤에 BINARY 로 전환한다.
+     */
+    private Format format = Format.JSON;
+
+    public enum Format {
+        JSON,
+        BINARY
+    }
+}
@@ -0,0 +1,53 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.chat.ingest")
+public class ChatIngestProperties {
+
+    /**
+     * 메시지 저장 방식 (DIRECT: 메시지마다 INSERT, BATCHED: 큐에 모아 배치 INSERT)
+     */
+    private Mode mode = Mode.DIRECT;
+
+    /**
+     * 배치 한 번에 저장할 최대 메시지 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 배치를 모으는 최대 대기 시간
+     */
+    private Duration flushInterval = Duration.ofMillis(5);
+
+    /**
+     * 대기 큐 최대 크기 (가득 차면 DIRECT 경로로 처리)
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 일시적인 DB 오류로 저장하지 못한 배치의 최대 재시도 횟수 (넘으면 chat.ingest.dlq)
+     */
+    private int retryMaxAttempts = 5;
+
+    /**
+     * 첫 재시도 대기 시간 (이후 2배씩 증가)
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    /**
+     * 재시도 대기 시간 상한
+     */
+    private Duration retryMaxBackoff = Duration.ofSeconds(5);
+
+    public enum Mode {
+        DIRECT,
+        BATCHED
+    }
+}
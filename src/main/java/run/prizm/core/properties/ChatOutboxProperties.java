@@ -0,0 +1,28 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.chat.outbox")
+public class ChatOutboxProperties {
+
+    /**
+     * relay 한 번에 발행할 최대 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * publisher confirm 대기 시간
+     */
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    /**
+     * outbox 폴링 주기 (밀리초, 커밋 직후에는 폴링과 별개로 즉시 relay)
+     */
+    private long pollIntervalMillis = 200;
+}
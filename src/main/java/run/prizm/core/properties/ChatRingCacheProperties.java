@@ -0,0 +1,33 @@
+package run.prizm.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "prizm.chat.ring")
+public class ChatRingCacheProperties {
+
+    /**
+     * 채널별 최근 메시지 링 캐시 저장소
+     * NONE: 사용 안 함 / LOCAL: 노드 메모리 (단일 노드 또는 FANOUT 브로드캐스트) / REDIS: 노드 간 공유
+     */
+    private Store store = Store.NONE;
+
+    /**
+     * 채널당 보관할 최근 메시지 수
+     */
+    private int capacity = 200;
+
+    /**
+     * LOCAL 저장소에서 동시에 보관할 최대 채널 수
+     */
+    private int maxChannels = 1000;
+
+    public enum Store {
+        NONE,
+        LOCAL,
+        REDIS
+    }
+}
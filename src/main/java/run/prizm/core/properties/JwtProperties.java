@@ -4,6 +4,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "prizm.auth.jwt")
@@ -23,4 +27,30 @@ public class JwtProperties {
      * Refresh Token 만료 시간 (밀리초)
      */
     private Long refreshTokenExpiration;
+
+    /**
+     * 현재 서명 키 ID (JWT 헤더 kid), 비어 있으면 kid 없이 서명한다
+     */
+    private String keyId;
+
+    /**
+     * 키 교체 중 검증에만 사용할 이전 키 (kid -> 시크릿)
+     */
+    private Map<String, String> verificationKeys = new HashMap<>();
+
+    /**
+     * kid 없이 발급된 토큰을 검증할 키 ID (verification-keys 중 하나)
+     * 비어 있으면 현재 서명 키로 검증한다. kid 없이 쓰던 시크릿을 바꿀 때 이전 시크릿의 kid 를 지정한다.
+     */
+    private String legacyKeyId;
+
+    /**
+     * 검증된 토큰 캐시 최대 크기
+     */
+    private int verifiedTokenCacheSize = 10_000;
+
+    /**
+     * 검증된 토큰 캐시 보관 시간 (토큰 만료 시각을 넘기지 않는다)
+     */
+    private Duration verifiedTokenCacheTtl = Duration.ofMinutes(1);
 }
@@ -0,0 +1,89 @@
+package run.prizm.core.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import run.prizm.core.properties.JwtProperties;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 모음
+ * 시작 시 한 번 키를 만들어 두고, 검증 시 헤더의 kid 로 키를 고른다.
+ * kid 가 없는 토큰은 (키 교체 이전 발급분) legacy-key-id 로 지정한 키, 지정하지 않았으면 현재 서명 키로 검증한다.
+ */
+final class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final SecretKey legacyKey;
+
+    private JwtKeyRing(String signingKeyId, SecretKey signingKey, Map<String, SecretKey> verificationKeys,
+                       SecretKey legacyKey) {
+        this.signingKeyId = signingKeyId;
+        this.signingKey = signingKey;
+        this.verificationKeys = verificationKeys;
+        this.legacyKey = legacyKey;
+    }
+
+    static JwtKeyRing from(JwtProperties properties) {
+        String signingKeyId = blankToNull(properties.getKeyId());
+        SecretKey signingKey = toKey(properties.getSecret());
+
+        Map<String, SecretKey> verificationKeys = new HashMap<>();
+        properties.getVerificationKeys()
+                  .forEach((keyId, secret) -> verificationKeys.put(keyId, toKey(secret)));
+        if (signingKeyId != null) {
+            verificationKeys.put(signingKeyId, signingKey);
+        }
+
+        String legacyKeyId = blankToNull(properties.getLegacyKeyId());
+        SecretKey legacyKey = signingKey;
+        if (legacyKeyId != null) {
+            // kid 없이 서명하는 동안에는 새 토큰도 kid 가 없으므로 다른 키로 검증할 수 없다
+            if (signingKeyId == null) {
+                throw new IllegalStateException("JWT legacy key id requires key-id for new tokens");
+            }
+            legacyKey = verificationKeys.get(legacyKeyId);
+            if (legacyKey == null) {
+                throw new IllegalStateException("Unknown JWT legacy key id: " + legacyKeyId);
+            }
+        }
+        return new JwtKeyRing(signingKeyId, signingKey, Map.copyOf(verificationKeys), legacyKey);
+    }
+
+    String signingKeyId() {
+        return signingKeyId;
+    }
+
+    SecretKey signingKey() {
+        return signingKey;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            return legacyKey;
+        }
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new JwtException("Unknown key id: " + keyId);
+        }
+        return key;
+    }
+
+    private static String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value : null;
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,27 +1,59 @@
 package run.prizm.core.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 import run.prizm.core.properties.AuthProperties;
+import run.prizm.core.properties.JwtProperties;
+import run.prizm.core.storage.cache.CacheMetrics;
+import run.prizm.core.storage.cache.LocalCacheStore;
 import run.prizm.core.user.entity.User;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 
+/**
+ * JWT 발급/검증
+ * 키와 파서는 시작 시 한 번 만들어 재사용하고, 검증된 access token 은 digest 기준으로 잠시 캐시해
+ * 요청마다 서명 검증과 JSON 파싱을 반복하지 않는다.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtService {
 
     private static final String ROLE_CLAIM = "role";
     private static final String ID_CLAIM = "id";
     private static final String DEFAULT_ROLE = "USER";
+    private static final String VERIFIED_TOKEN_CACHE_NAME = "verifiedToken";
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
 
     private final AuthProperties authProperties;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+    private final LocalCacheStore<String, Claims> verifiedTokens;
+
+    public JwtService(AuthProperties authProperties, MeterRegistry meterRegistry) {
+        JwtProperties jwt = authProperties.getJwt();
+        this.authProperties = authProperties;
+        this.keyRing = JwtKeyRing.from(jwt);
+        this.parser = Jwts.parser()
+                          .keyLocator(keyRing)
+                          .build();
+        this.verifiedTokens = new LocalCacheStore<>(jwt.getVerifiedTokenCacheSize(), jwt.getVerifiedTokenCacheTtl(),
+                new CacheMetrics(meterRegistry, VERIFIED_TOKEN_CACHE_NAME));
+    }
 
     public String generateAccessToken(User user) {
         return generateAccessToken(user.getId(), determineRole(user));
@@ -33,15 +65,13 @@ public class JwtService {
         Date expiration = new Date(now + authProperties.getJwt()
                                                        .getAccessTokenExpiration());
 
-        SecretKey key = getSigningKey();
-
-        return Jwts.builder()
-                   .claim(ROLE_CLAIM, role)
-                   .claim(ID_CLAIM, userId)
-                   .issuedAt(issuedAt)
-                   .expiration(expiration)
-                   .signWith(key)
-                   .compact();
+        return builder()
+                .claim(ROLE_CLAIM, role)
+                .claim(ID_CLAIM, userId)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(keyRing.signingKey())
+                .compact();
     }
 
     public String generateRefreshToken() {
@@ -50,13 +80,11 @@ public class JwtService {
         Date expiration = new Date(now + authProperties.getJwt()
                                                        .getRefreshTokenExpiration());
 
-        SecretKey key = getSigningKey();
-
-        return Jwts.builder()
-                   .issuedAt(issuedAt)
-                   .expiration(expiration)
-                   .signWith(key)
-                   .compact();
+        return builder()
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(keyRing.signingKey())
+                .compact();
     }
 
     public long getAccessTokenExpirationInSeconds() {
@@ -71,11 +99,7 @@ public class JwtService {
 
     public boolean validateToken(String token) {
         try {
-            SecretKey key = getSigningKey();
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -100,16 +124,25 @@ public class JwtService {
     }
 
     public Claims extractClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        String digest = digest(token);
+        Claims claims = verifiedTokens.get(digest);
+        if (claims != null) {
+            // 캐시 보관 시간이 남아 있어도 토큰 만료 이후에는 검증 실패와 같게 처리
+            return isExpired(claims) ? null : claims;
+        }
+
         try {
-            SecretKey key = getSigningKey();
-            return Jwts.parser()
-                       .verifyWith(key)
-                       .build()
-                       .parseSignedClaims(token)
-                       .getPayload();
+            claims = parser.parseSignedClaims(token)
+                           .getPayload();
         } catch (JwtException | IllegalArgumentException e) {
             return null;
         }
+        verifiedTokens.put(digest, claims);
+        return claims;
     }
 
     public boolean isExpired(Claims claims) {
@@ -117,10 +150,20 @@ public class JwtService {
         return expiration == null || expiration.before(new Date());
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(authProperties.getJwt()
-                                                .getSecret()
-                                                .getBytes(StandardCharsets.UTF_8));
+    private JwtBuilder builder() {
+        JwtBuilder builder = Jwts.builder();
+        if (keyRing.signingKeyId() != null) {
+            builder.header()
+                   .keyId(keyRing.signingKeyId());
+        }
+        return builder;
+    }
+
+    private static String digest(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return HexFormat.of()
+                        .formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
     }
 
     private String determineRole(User user) {
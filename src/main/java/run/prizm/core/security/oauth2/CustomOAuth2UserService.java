@@ -15,11 +15,14 @@ import run.prizm.core.common.util.ImageUploadHelper;
 import run.prizm.core.file.entity.File;
 import run.prizm.core.security.oauth2.extractor.OAuth2AttributeExtractor;
 import run.prizm.core.user.constraint.UserAuthProvider;
+import run.prizm.core.user.cache.UserSnapshotCache;
 import run.prizm.core.user.entity.User;
 import run.prizm.core.user.repository.UserRepository;
+import run.prizm.core.user.service.UserService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +31,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final List<OAuth2AttributeExtractor> extractors;
     private final UserRepository userRepository;
     private final ImageUploadHelper imageUploadHelper;
+    private final UserSnapshotCache userSnapshotCache;
+    private final UserService userService;
 
     @Override
     @Transactional
@@ -54,8 +59,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         UserAuthProvider userAuthProvider = UserAuthProvider.valueOf(registrationId.toUpperCase());
         return userRepository.findByAuthProviderAndOpenidSub(userAuthProvider, userData.providerId())
                              .map(user -> {
+                                 // 이름이 바뀌면 워크스페이스 프로필 / 발신자 스냅샷도 무효화
+                                 if (!Objects.equals(user.getName(), userData.name())) {
+                                     userService.invalidateWorkspaceProfiles(user.getId());
+                                 }
                                  user.setName(userData.name());
                                  user.setEmail(userData.email());
+                                 userSnapshotCache.invalidate(user.getId());
                                  return new AuthenticationResult(userRepository.save(user), false);
                              })
                              .orElseGet(() -> {
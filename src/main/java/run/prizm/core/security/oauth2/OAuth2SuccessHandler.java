@@ -16,6 +16,7 @@ import run.prizm.core.security.cookie.CookieService;
 import run.prizm.core.security.cookie.CookieUtils;
 import run.prizm.core.security.jwt.JwtService;
 import run.prizm.core.storage.redis.RefreshTokenCacheRepository;
+import run.prizm.core.user.cache.UserSnapshotCache;
 import run.prizm.core.user.entity.User;
 import run.prizm.core.user.repository.UserRepository;
 
@@ -33,6 +34,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     private final UserRepository userRepository;
     private final RefreshTokenCacheRepository refreshTokenCacheRepository;
     private final UrlProperties urlProperties;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
@@ -73,6 +75,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
         if (updated) {
             userRepository.save(user);
+            userSnapshotCache.invalidate(user.getId());
         }
 
         Language userLanguage = user.getLanguage() != null ? user.getLanguage() : Language.EN;
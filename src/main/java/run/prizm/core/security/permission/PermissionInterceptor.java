@@ -8,10 +8,6 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
 import run.prizm.core.space.channel.permission.ChannelPermission;
-import run.prizm.core.space.channel.permission.ChannelPermissionCalculator;
-import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
-import run.prizm.core.space.workspace.entity.WorkspaceUser;
-import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
 
 import java.util.Map;
 
@@ -19,8 +15,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PermissionInterceptor implements HandlerInterceptor {
 
-    private final WorkspaceUserRepository workspaceUserRepository;
-    private final ChannelPermissionCalculator channelPermissionCalculator;
+    private final WorkspaceMembershipResolver membershipResolver;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -60,19 +55,16 @@ public class PermissionInterceptor implements HandlerInterceptor {
         }
 
         Long workspaceId = Long.parseLong(workspaceIdStr);
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElse(null);
+        WorkspaceMembership membership = membershipResolver.find(workspaceId, userId)
+                                                           .orElse(null);
 
-        if (workspaceUser == null) {
+        if (membership == null) {
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             return false;
         }
 
-        for (WorkspaceUserRole requiredRole : annotation.value()) {
-            if (workspaceUser.getRole() == requiredRole) {
-                return true;
-            }
+        if (membership.hasRole(annotation.value())) {
+            return true;
         }
 
         response.setStatus(HttpServletResponse.SC_FORBIDDEN);
@@ -92,17 +84,15 @@ public class PermissionInterceptor implements HandlerInterceptor {
         Long workspaceId = Long.parseLong(workspaceIdStr);
         Long channelId = Long.parseLong(channelIdStr);
 
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElse(null);
+        WorkspaceMembership membership = membershipResolver.find(workspaceId, userId)
+                                                           .orElse(null);
 
-        if (workspaceUser == null) {
+        if (membership == null) {
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             return false;
         }
 
-        Map<Long, ChannelPermission> permissions = channelPermissionCalculator.calculatePermissions(workspaceUser);
-        ChannelPermission userPermission = permissions.getOrDefault(channelId, ChannelPermission.NONE);
+        ChannelPermission userPermission = membership.getChannelPermission(channelId);
 
         if (userPermission.getLevel() >= annotation.value()
                                                    .getLevel()) {
@@ -0,0 +1,87 @@
+package run.prizm.core.security.permission;
+
+import run.prizm.core.space.channel.permission.ChannelPermission;
+import run.prizm.core.space.channel.permission.ChannelPermissionEngine;
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+import run.prizm.core.space.workspace.entity.WorkspaceUser;
+import run.prizm.core.user.entity.User;
+
+import java.util.Map;
+
+/**
+ * 요청 단위 워크스페이스 멤버십
+ * PermissionInterceptor 가 한 번 조회해 요청 속성에 보관하고, 컨트롤러/서비스는 다시 조회하지 않고 사용한다.
+ * 채널 권한 스냅샷은 처음 사용할 때 권한 엔진에서 가져온다.
+ */
+public final class WorkspaceMembership {
+
+    private final Long workspaceId;
+    private final Long userId;
+    private final WorkspaceUser workspaceUser;
+    private final WorkspaceUserRole role;
+    private final ChannelPermissionEngine permissionEngine;
+    private Map<Long, ChannelPermission> channelPermissions;
+
+    WorkspaceMembership(Long workspaceId, Long userId, WorkspaceUser workspaceUser,
+                        ChannelPermissionEngine permissionEngine) {
+        this.workspaceId = workspaceId;
+        this.userId = userId;
+        this.workspaceUser = workspaceUser;
+        this.role = workspaceUser.getRole();
+        this.permissionEngine = permissionEngine;
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getWorkspaceUserId() {
+        return workspaceUser.getId();
+    }
+
+    public WorkspaceUser getWorkspaceUser() {
+        return workspaceUser;
+    }
+
+    public User getUser() {
+        return workspaceUser.getUser();
+    }
+
+    public WorkspaceUserRole getRole() {
+        return role;
+    }
+
+    public boolean hasRole(WorkspaceUserRole... roles) {
+        for (WorkspaceUserRole candidate : roles) {
+            if (role == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 접근 가능한 채널 권한 (channelId -> 권한)
+     */
+    public Map<Long, ChannelPermission> getChannelPermissions() {
+        if (channelPermissions == null) {
+            channelPermissions = permissionEngine.getPermissions(workspaceId, workspaceUser.getId(), role);
+        }
+        return channelPermissions;
+    }
+
+    public ChannelPermission getChannelPermission(Long channelId) {
+        if (channelPermissions != null) {
+            return channelPermissions.getOrDefault(channelId, ChannelPermission.NONE);
+        }
+        return permissionEngine.getPermission(workspaceId, workspaceUser.getId(), role, channelId);
+    }
+
+    boolean matches(Long workspaceId, Long userId) {
+        return this.workspaceId.equals(workspaceId) && this.userId.equals(userId);
+    }
+}
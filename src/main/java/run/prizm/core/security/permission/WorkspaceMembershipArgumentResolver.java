@@ -0,0 +1,52 @@
+package run.prizm.core.security.permission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+
+import java.util.Map;
+
+/**
+ * 컨트롤러 파라미터로 WorkspaceMembership 주입
+ * PermissionInterceptor 가 확인한 멤버십을 사용하고, 없으면 경로의 workspaceId 로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspaceMembershipArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final WorkspaceMembershipResolver membershipResolver;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType()
+                        .equals(WorkspaceMembership.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  @NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Long userId = (Long) webRequest.getAttribute("userId", RequestAttributes.SCOPE_REQUEST);
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        Map<String, String> pathVariables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        String workspaceId = pathVariables != null ? pathVariables.get("workspaceId") : null;
+        if (workspaceId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        return membershipResolver.resolve(Long.parseLong(workspaceId), userId);
+    }
+}
@@ -0,0 +1,78 @@
+package run.prizm.core.security.permission;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.space.channel.permission.ChannelPermissionEngine;
+import run.prizm.core.space.workspace.entity.WorkspaceUser;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+
+import java.util.Optional;
+
+/**
+ * 워크스페이스 멤버십 조회
+ * HTTP 요청 안에서는 요청 속성에 보관된 멤버십을 재사용하고, 그 밖(STOMP, 스케줄러 등)에서는 매번 조회한다.
+ * 보관된 엔티티가 현재 영속성 컨텍스트에 없으면 (open-in-view 비활성 등) 다시 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspaceMembershipResolver {
+
+    private static final String ATTRIBUTE = WorkspaceMembership.class.getName();
+
+    private final WorkspaceUserRepository workspaceUserRepository;
+    private final ChannelPermissionEngine channelPermissionEngine;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 현재 요청에서 확인된 멤버십
+     */
+    public Optional<WorkspaceMembership> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((WorkspaceMembership) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    public Optional<WorkspaceMembership> find(Long workspaceId, Long userId) {
+        Optional<WorkspaceMembership> current = current().filter(membership -> membership.matches(workspaceId, userId))
+                                                         .filter(membership -> entityManager.contains(membership.getWorkspaceUser()));
+        if (current.isPresent()) {
+            return current;
+        }
+
+        Optional<WorkspaceMembership> loaded = workspaceUserRepository
+                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
+                .map(workspaceUser -> new WorkspaceMembership(workspaceId, userId, workspaceUser, channelPermissionEngine));
+        loaded.ifPresent(this::store);
+        return loaded;
+    }
+
+    public WorkspaceMembership resolve(Long workspaceId, Long userId) {
+        return find(workspaceId, userId).orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+    }
+
+    public WorkspaceUser getWorkspaceUser(Long workspaceId, Long userId) {
+        return resolve(workspaceId, userId).getWorkspaceUser();
+    }
+
+    // 요청 주체의 멤버십만 보관한다 (다른 멤버 조회로 덮어쓰지 않음)
+    private void store(WorkspaceMembership membership) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Object requestUserId = attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST);
+        if (membership.getUserId().equals(requestUserId)) {
+            attributes.setAttribute(ATTRIBUTE, membership, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
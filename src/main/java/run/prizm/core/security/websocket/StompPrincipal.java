@@ -0,0 +1,15 @@
+package run.prizm.core.security.websocket;
+
+import java.security.Principal;
+
+/**
+ * STOMP CONNECT 시 JWT 로 인증된 사용자
+ * getName() 은 전역 userId 이며 /user/{userId}/queue/* 라우팅에 그대로 사용된다.
+ */
+public record StompPrincipal(Long userId) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
@@ -0,0 +1,238 @@
+package run.prizm.core.security.websocket;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.security.jwt.JwtService;
+import run.prizm.core.space.channel.cache.ChannelSnapshot;
+import run.prizm.core.space.channel.cache.ChannelSnapshotCache;
+import run.prizm.core.space.channel.constraint.ChannelType;
+import run.prizm.core.space.channel.permission.ChannelPermission;
+import run.prizm.core.space.channel.permission.ChannelPermissionEngine;
+import run.prizm.core.space.channel.repository.ChannelWorkspaceUserRepository;
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+import run.prizm.core.space.workspace.entity.WorkspaceUser;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * WebSocket 세션 단위 인가
+ * CONNECT 에서 JWT 로 사용자를 확정하고, 세션마다 워크스페이스 멤버십(역할, 명시 참여 채널)을 캐시한다.
+ * SUBSCRIBE / SEND 는 멤버십 캐시 + ChannelPermissionEngine 배열 조회로 DB 없이 판정한다.
+ * 멤버십/권한 변경은 CacheInvalidationBus 로 전달되어 해당 세션 캐시를 비우고,
+ * 그 워크스페이스 채널의 기존 구독을 다시 판정해 권한을 잃은 구독은 해지 리스너로 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketSessionAuthorizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketSessionAuthorizer.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+    // WorkspaceUserSnapshotCache / ChannelPermissionEngine 이 발행하는 무효화 토픽
+    private static final String WORKSPACE_USER_CACHE_NAME = "workspaceUserSnapshot";
+    private static final String CHANNEL_PERMISSION_CACHE_NAME = "channelPermission";
+
+    private final JwtService jwtService;
+    private final WorkspaceUserRepository workspaceUserRepository;
+    private final ChannelWorkspaceUserRepository channelWorkspaceUserRepository;
+    private final ChannelSnapshotCache channelSnapshotCache;
+    private final ChannelPermissionEngine channelPermissionEngine;
+    private final CacheInvalidationBus invalidationBus;
+
+    // sessionId -> 세션 인가 상태
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    // 권한을 잃은 구독 (sessionId, subscriptionId) 을 받아 브로커에서 해지
+    private final List<BiConsumer<String, String>> revokeListeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationBus.subscribe(WORKSPACE_USER_CACHE_NAME, key -> {
+            Long workspaceUserId = Long.parseLong(key);
+            sessions.forEach((sessionId, session) -> {
+                Set<Long> workspaceIds = new HashSet<>();
+                session.memberships()
+                       .entrySet()
+                       .removeIf(entry -> {
+                           boolean matches = workspaceUserId.equals(entry.getValue()
+                                                                         .workspaceUserId());
+                           if (matches) {
+                               workspaceIds.add(entry.getKey());
+                           }
+                           return matches;
+                       });
+                workspaceIds.forEach(workspaceId -> reauthorize(sessionId, session, workspaceId));
+            });
+        });
+        invalidationBus.subscribe(CHANNEL_PERMISSION_CACHE_NAME, key -> {
+            Long workspaceId = Long.parseLong(key);
+            sessions.forEach((sessionId, session) -> {
+                session.memberships()
+                       .remove(workspaceId);
+                reauthorize(sessionId, session, workspaceId);
+            });
+        });
+    }
+
+    public void addRevokeListener(BiConsumer<String, String> listener) {
+        revokeListeners.add(listener);
+    }
+
+    /**
+     * CONNECT: Authorization 헤더의 access token 으로 사용자 확정
+     */
+    public StompPrincipal connect(String sessionId, String authorization) {
+        if (sessionId == null || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        Claims claims = jwtService.extractClaims(authorization.substring(BEARER_PREFIX.length()));
+        if (claims == null || jwtService.isExpired(claims) || !(claims.get("id") instanceof Number id)) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+
+        StompPrincipal principal = new StompPrincipal(id.longValue());
+        sessions.put(sessionId, new SessionState(principal.userId(), new ConcurrentHashMap<>(),
+                new ConcurrentHashMap<>()));
+        return principal;
+    }
+
+    public void disconnect(String sessionId) {
+        if (sessionId != null) {
+            sessions.remove(sessionId);
+        }
+    }
+
+    /**
+     * SUBSCRIBE /topic/channel/{channelId}: READ 이상 필요, 권한 변경 시 다시 판정하도록 구독을 기록
+     */
+    public void authorizeSubscribe(String sessionId, String subscriptionId, Long channelId) {
+        authorize(sessionId, channelId, ChannelPermission.READ);
+        SessionState session = sessions.get(sessionId);
+        if (session != null && subscriptionId != null) {
+            session.subscriptions()
+                   .put(subscriptionId, new Subscription(channelId, channelSnapshotCache.get(channelId)
+                                                                                    .workspaceId()));
+        }
+    }
+
+    /**
+     * 채널 메시지를 읽는 SEND (번역 등): READ 이상 필요
+     */
+    public void authorizeRead(String sessionId, Long channelId) {
+        authorize(sessionId, channelId, ChannelPermission.READ);
+    }
+
+    /**
+     * 세션 없는 요청 (REST) 의 채널 READ 권한 확인, 멤버십은 캐시하지 않고 매번 조회한다
+     */
+    public void authorizeUserRead(Long userId, Long channelId) {
+        ChannelSnapshot channel = channelSnapshotCache.get(channelId);
+        Membership membership = loadMembership(channel.workspaceId(), userId);
+        if (membership == Membership.NONE
+                || permission(membership, channel).getLevel() < ChannelPermission.READ.getLevel()) {
+            throw new BusinessException(ErrorCode.CHANNEL_ACCESS_DENIED);
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        SessionState session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session != null && subscriptionId != null) {
+            session.subscriptions()
+                   .remove(subscriptionId);
+        }
+    }
+
+    /**
+     * SEND /app/chat.send: WRITE 이상 필요, 세션 사용자의 workspaceUserId 반환
+     */
+    public Long authorizeSend(String sessionId, Long channelId) {
+        return authorize(sessionId, channelId, ChannelPermission.WRITE);
+    }
+
+    private Long authorize(String sessionId, Long channelId, ChannelPermission required) {
+        SessionState session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        ChannelSnapshot channel = channelSnapshotCache.get(channelId);
+        Membership membership = session.memberships()
+                                       .computeIfAbsent(channel.workspaceId(), workspaceId -> loadMembership(workspaceId, session.userId()));
+        if (membership == Membership.NONE || permission(membership, channel).getLevel() < required.getLevel()) {
+            throw new BusinessException(ErrorCode.CHANNEL_ACCESS_DENIED);
+        }
+        return membership.workspaceUserId();
+    }
+
+    // 워크스페이스의 기존 구독을 다시 판정하고, 권한을 잃었거나 채널이 사라진 구독을 해지
+    private void reauthorize(String sessionId, SessionState session, Long workspaceId) {
+        session.subscriptions()
+               .forEach((subscriptionId, subscription) -> {
+                   if (!workspaceId.equals(subscription.workspaceId())) {
+                       return;
+                   }
+                   try {
+                       authorize(sessionId, subscription.channelId(), ChannelPermission.READ);
+                   } catch (BusinessException e) {
+                       session.subscriptions()
+                              .remove(subscriptionId, subscription);
+                       logger.info("Revoking subscription: sessionId={}, channelId={}", sessionId,
+                               subscription.channelId());
+                       revokeListeners.forEach(listener -> listener.accept(sessionId, subscriptionId));
+                   } catch (Exception e) {
+                       // 판정할 수 없으면 구독을 유지하고, 멤버십은 다음 프레임에서 다시 로딩된다
+                       logger.warn("Failed to reauthorize subscription: sessionId={}, channelId={}", sessionId,
+                               subscription.channelId(), e);
+                   }
+               });
+    }
+
+    private ChannelPermission permission(Membership membership, ChannelSnapshot channel) {
+        if (channel.type() == ChannelType.CHAT) {
+            return channelPermissionEngine.getPermission(channel.workspaceId(), membership.workspaceUserId(),
+                    membership.role(), channel.id());
+        }
+        // DM / ASSISTANT / WEBHOOK 은 명시 참여자만
+        return membership.explicitChannelIds()
+                         .contains(channel.id()) ? ChannelPermission.WRITE : ChannelPermission.NONE;
+    }
+
+    private Membership loadMembership(Long workspaceId, Long userId) {
+        return workspaceUserRepository.findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
+                                      .filter(workspaceUser -> !workspaceUser.isBanned())
+                                      .map(this::toMembership)
+                                      .orElse(Membership.NONE);
+    }
+
+    private Membership toMembership(WorkspaceUser workspaceUser) {
+        return new Membership(workspaceUser.getId(), workspaceUser.getRole(),
+                Set.copyOf(channelWorkspaceUserRepository.findExplicitChannelIdsByWorkspaceUserId(workspaceUser.getId())));
+    }
+
+    // subscriptions: subscriptionId -> 구독 채널
+    private record SessionState(Long userId, Map<Long, Membership> memberships,
+                                Map<String, Subscription> subscriptions) {
+    }
+
+    private record Subscription(Long channelId, Long workspaceId) {
+    }
+
+    private record Membership(Long workspaceUserId, WorkspaceUserRole role, Set<Long> explicitChannelIds) {
+
+        // 워크스페이스 멤버가 아님 (음성 캐시)
+        private static final Membership NONE = new Membership(null, null, Set.of());
+    }
+}
@@ -38,14 +38,27 @@ public class AiRagPermissionChecker {
         WorkspaceUser workspaceUser = workspaceUserRepository.findById(workspaceUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
 
-        WorkspaceUserRole role = workspaceUser.getRole();
+        checkAiAssistantRole(workspaceUser);
+    }
+
+    /**
+     * 요청자 본인의 WorkspaceUser 인지 확인한 뒤 AI 어시스턴트 사용 권한 체크
+     * 요청 본문의 workspaceUserId 만 믿으면 다른 멤버의 어시스턴트 채널로 질문할 수 있다.
+     */
+    public void checkAiAssistantPermission(Long workspaceUserId, Long userId) {
+        WorkspaceUser workspaceUser = workspaceUserRepository.findById(workspaceUserId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
 
-        if (role == WorkspaceUserRole.GUEST) {
+        if (workspaceUser.getDeletedAt() != null || !workspaceUser.getUser()
+                                                                  .getId()
+                                                                  .equals(userId)) {
             throw new BusinessException(
                     ErrorCode.FORBIDDEN,
-                    "GUEST users cannot use AI Assistant"
+                    "Workspace user does not belong to the current user"
             );
         }
+
+        checkAiAssistantRole(workspaceUser);
     }
 
     /**
@@ -55,4 +68,13 @@ public class AiRagPermissionChecker {
         return workspaceUserRepository.findById(workspaceUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
     }
+
+    private void checkAiAssistantRole(WorkspaceUser workspaceUser) {
+        if (workspaceUser.getRole() == WorkspaceUserRole.GUEST) {
+            throw new BusinessException(
+                    ErrorCode.FORBIDDEN,
+                    "GUEST users cannot use AI Assistant"
+            );
+        }
+    }
 }
@@ -7,11 +7,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 import run.prizm.core.file.entity.File;
 import run.prizm.core.file.repository.FileRepository;
+import run.prizm.core.message.cache.AssistantAnswerCache;
 import run.prizm.core.properties.UrlProperties;
 import run.prizm.core.space.airag.constraint.AiRagProgress;
 import run.prizm.core.space.airag.dto.*;
@@ -22,6 +22,8 @@ import run.prizm.core.space.workspace.entity.Workspace;
 import run.prizm.core.space.workspace.entity.WorkspaceUser;
 import run.prizm.core.space.workspace.repository.WorkspaceRepository;
 import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+import run.prizm.core.storage.ai.AiClient;
+import run.prizm.core.storage.ai.AiEndpoint;
 import run.prizm.core.storage.s3.S3Service;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
@@ -43,7 +45,8 @@ public class AiRagService {
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceUserRepository workspaceUserRepository;
     private final S3Service s3Service;
-    private final WebClient.Builder webClientBuilder;
+    private final AiClient aiClient;
+    private final AssistantAnswerCache assistantAnswerCache;
     private final AiRagPermissionChecker permissionChecker;
     private final UrlProperties urlProperties;
 
@@ -143,9 +146,6 @@ public class AiRagService {
         logger.info("Requesting RAG processing to FastAPI for aiRagId={}", aiRag.getId());
 
         try {
-            WebClient webClient = webClientBuilder.baseUrl(urlProperties.getServiceAiUrl())
-                                                  .build();
-
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("workspace_id", aiRag.getWorkspace()
                                                  .getId());
@@ -158,12 +158,8 @@ public class AiRagService {
                                                                       .getExtension());
             requestBody.put("callback_url", urlProperties.getServiceCoreUrl() + "/api/ai-rag/callback");
 
-            webClient.post()
-                     .uri("/ai/rag")
-                     .bodyValue(requestBody)
-                     .retrieve()
-                     .bodyToMono(Map.class)
-                     .subscribe(
+            aiClient.post(AiEndpoint.RAG, "/ai/rag", requestBody, Map.class)
+                    .subscribe(
                              response -> logger.info("RAG processing request sent successfully: {}", response),
                              error -> logger.error("Failed to request RAG processing: {}", error.getMessage())
                      );
@@ -191,6 +187,9 @@ public class AiRagService {
         // 상태 업데이트
         if ("SUCCESS".equals(request.getStatus())) {
             aiRag.setProgress(AiRagProgress.SUCCESS);
+            // 코퍼스가 바뀌었으므로 이전 답변은 다시 쓰지 않는다
+            assistantAnswerCache.invalidateWorkspace(aiRag.getWorkspace()
+                                                          .getId());
             logger.info("RAG processing completed successfully: chunks={}, vectors={}",
                     request.getChunksCount(), request.getVectorsCount());
         } else {
@@ -236,6 +235,7 @@ public class AiRagService {
         // Soft Delete
         aiRag.setDeletedAt(java.time.Instant.now());
         aiRagRepository.save(aiRag);
+        assistantAnswerCache.invalidateWorkspace(workspaceId);
 
         logger.info("RAG file deleted: id={}, fileId={}", ragId, aiRag.getFile()
                                                                       .getId());
@@ -247,19 +247,19 @@ public class AiRagService {
     @Async
     public CompletableFuture<Void> deleteVectorsFromQdrant(AiRag aiRag) {
         try {
-            WebClient webClient = webClientBuilder.baseUrl(urlProperties.getServiceAiUrl())
-                                                  .build();
-
             String uri = String.format("/ai/rag/workspaces/%d/files/%d", 
                     aiRag.getWorkspace().getId(), 
                     aiRag.getFile().getId());
 
-            webClient.delete()
-                     .uri(uri)
-                     .retrieve()
-                     .bodyToMono(Map.class)
-                     .subscribe(
-                             response -> logger.info("Vectors deleted from Qdrant: {}", response),
+            Long workspaceId = aiRag.getWorkspace()
+                                    .getId();
+            aiClient.delete(AiEndpoint.RAG, uri, Map.class)
+                    .subscribe(
+                             response -> {
+                                 logger.info("Vectors deleted from Qdrant: {}", response);
+                                 // 삭제 커밋 이후 벡터가 지워지기 전까지 만들어진 답변도 버린다
+                                 assistantAnswerCache.invalidateWorkspace(workspaceId);
+                             },
                              error -> logger.error("Failed to delete vectors: {}", error.getMessage())
                      );
 
@@ -0,0 +1,202 @@
+package run.prizm.core.space.channel.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import run.prizm.core.properties.CacheProperties;
+import run.prizm.core.space.channel.dto.AccessibleChannelListResponse;
+import run.prizm.core.storage.cache.CacheMetrics;
+import run.prizm.core.storage.cache.LocalCacheStore;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+import run.prizm.core.storage.redis.ChannelAccessCacheRepository;
+import run.prizm.core.storage.redis.ChannelAccessCacheRepository.Generation;
+
+import java.util.function.Supplier;
+
+/**
+ * 사이드바 채널 접근 목록 캐시 (L1: 노드 메모리, L2: Redis, 세대 기반 무효화)
+ * 세대를 먼저 읽고 DB 를 조회하므로, 조회 도중 무효화되면 결과는 이미 지난 세대 키에 저장되어 다시 읽히지 않는다.
+ * 노드 메모리의 세대 값은 INCR 이후 pub/sub 으로 모든 노드에서 지우며, 적중 시에는 Redis 를 거치지 않는다.
+ * Redis 장애 시에는 캐시 없이 DB 조회로 동작한다.
+ */
+@Component
+public class ChannelAccessCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelAccessCache.class);
+    private static final String CACHE_NAME = "channelAccess";
+    private static final String GENERATION_CACHE_NAME = "channelAccessGeneration";
+    // 세대 저장소마다 크기 gauge 가 따로 보이도록 메트릭 이름을 나눈다
+    private static final String WORKSPACE_GENERATION_METRICS_NAME = "channelAccessWorkspaceGeneration";
+    private static final String USER_GENERATION_METRICS_NAME = "channelAccessUserGeneration";
+
+    private final ChannelAccessCacheRepository cacheRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheMetrics metrics;
+    private final Counter workspaceEvictions;
+    private final Counter userEvictions;
+    // "{workspaceId}:{workspaceGeneration}:{userId}:{userGeneration}" -> 목록
+    private final LocalCacheStore<String, AccessibleChannelListResponse> localEntries;
+    // workspaceId -> 세대
+    private final LocalCacheStore<String, Long> workspaceGenerations;
+    // "{workspaceId}:{userId}" -> 세대
+    private final LocalCacheStore<String, Long> userGenerations;
+
+    public ChannelAccessCache(ChannelAccessCacheRepository cacheRepository, CacheInvalidationBus invalidationBus,
+                              CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.cacheRepository = cacheRepository;
+        this.invalidationBus = invalidationBus;
+        this.metrics = new CacheMetrics(meterRegistry, CACHE_NAME);
+        this.workspaceEvictions = metrics.evictions("workspace");
+        this.userEvictions = metrics.evictions("user");
+
+        CacheProperties.Spec spec = cacheProperties.spec(CACHE_NAME);
+        this.localEntries = new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(), metrics);
+        this.workspaceGenerations = new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(),
+                new CacheMetrics(meterRegistry, WORKSPACE_GENERATION_METRICS_NAME));
+        this.userGenerations = new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(),
+                new CacheMetrics(meterRegistry, USER_GENERATION_METRICS_NAME));
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationBus.subscribe(GENERATION_CACHE_NAME, this::evictLocalGeneration);
+    }
+
+    public AccessibleChannelListResponse get(Long workspaceId, Long userId,
+                                             Supplier<AccessibleChannelListResponse> loader) {
+        Generation generation = findGeneration(workspaceId, userId);
+        if (generation == null) {
+            metrics.miss();
+            return loader.get();
+        }
+
+        String localKey = workspaceId + ":" + generation.workspace() + ":" + userId + ":" + generation.user();
+        AccessibleChannelListResponse cached = localEntries.get(localKey);
+        if (cached != null) {
+            metrics.localHit();
+            return cached;
+        }
+
+        cached = findRemote(workspaceId, userId, generation);
+        if (cached != null) {
+            metrics.remoteHit();
+            localEntries.put(localKey, cached);
+            return cached;
+        }
+
+        metrics.miss();
+        AccessibleChannelListResponse response = loader.get();
+        saveRemote(workspaceId, userId, generation, response);
+        localEntries.put(localKey, response);
+        return response;
+    }
+
+    /**
+     * 유저 단위 무효화 (트랜잭션 중이면 커밋 이후 수행)
+     */
+    public void invalidate(Long workspaceId, Long userId) {
+        runAfterCommit(() -> {
+            try {
+                cacheRepository.invalidate(workspaceId, userId);
+                userEvictions.increment();
+                publishGeneration(workspaceId + ":" + userId);
+            } catch (Exception e) {
+                logger.warn("Failed to invalidate channel access cache: workspaceId={}, userId={}",
+                        workspaceId, userId, e);
+            }
+        });
+    }
+
+    /**
+     * 워크스페이스 단위 무효화 (트랜잭션 중이면 커밋 이후 수행)
+     */
+    public void invalidateWorkspace(Long workspaceId) {
+        runAfterCommit(() -> {
+            try {
+                cacheRepository.invalidateWorkspace(workspaceId);
+                workspaceEvictions.increment();
+                publishGeneration(String.valueOf(workspaceId));
+            } catch (Exception e) {
+                logger.warn("Failed to invalidate channel access cache: workspaceId={}", workspaceId, e);
+            }
+        });
+    }
+
+    private void publishGeneration(String key) {
+        evictLocalGeneration(key);
+        invalidationBus.publish(GENERATION_CACHE_NAME, key);
+    }
+
+    // key 가 "{workspaceId}" 면 워크스페이스 세대, "{workspaceId}:{userId}" 면 유저 세대
+    private void evictLocalGeneration(String key) {
+        if (key.indexOf(':') < 0) {
+            workspaceGenerations.remove(key);
+        } else {
+            userGenerations.remove(key);
+        }
+    }
+
+    private Generation findGeneration(Long workspaceId, Long userId) {
+        String workspaceKey = String.valueOf(workspaceId);
+        String userKey = workspaceId + ":" + userId;
+        Long workspaceGeneration = workspaceGenerations.get(workspaceKey);
+        Long userGeneration = userGenerations.get(userKey);
+        if (workspaceGeneration != null && userGeneration != null) {
+            return new Generation(workspaceGeneration, userGeneration);
+        }
+
+        Generation generation = findRemoteGeneration(workspaceId, userId);
+        if (generation != null) {
+            workspaceGenerations.put(workspaceKey, generation.workspace());
+            userGenerations.put(userKey, generation.user());
+        }
+        return generation;
+    }
+
+    private Generation findRemoteGeneration(Long workspaceId, Long userId) {
+        try {
+            return cacheRepository.findGeneration(workspaceId, userId);
+        } catch (Exception e) {
+            logger.warn("Channel access cache generation lookup failed, falling back to DB: workspaceId={}",
+                    workspaceId, e);
+            return null;
+        }
+    }
+
+    private AccessibleChannelListResponse findRemote(Long workspaceId, Long userId, Generation generation) {
+        try {
+            return cacheRepository.find(workspaceId, userId, generation, AccessibleChannelListResponse.class);
+        } catch (Exception e) {
+            logger.warn("Channel access cache lookup failed, falling back to DB: workspaceId={}, userId={}",
+                    workspaceId, userId, e);
+            return null;
+        }
+    }
+
+    private void saveRemote(Long workspaceId, Long userId, Generation generation,
+                            AccessibleChannelListResponse response) {
+        try {
+            cacheRepository.save(workspaceId, userId, generation, response);
+        } catch (Exception e) {
+            logger.warn("Failed to cache channel access: workspaceId={}, userId={}", workspaceId, userId, e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
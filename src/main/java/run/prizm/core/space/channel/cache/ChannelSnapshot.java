@@ -0,0 +1,13 @@
+package run.prizm.core.space.channel.cache;
+
+import run.prizm.core.space.channel.constraint.ChannelType;
+
+import java.io.Serializable;
+
+public record ChannelSnapshot(
+        Long id,
+        Long workspaceId,
+        ChannelType type,
+        boolean autoTranslate
+) implements Serializable {
+}
@@ -0,0 +1,64 @@
+package run.prizm.core.space.channel.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.space.channel.repository.ChannelRepository;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채널 존재 여부 / 소속 워크스페이스 검증용 in-process 캐시
+ * 메시지 전송 경로에서 매번 channels 테이블을 조회하지 않기 위해 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChannelSnapshotCache {
+
+    private static final String CACHE_NAME = "channelSnapshot";
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final int MAX_SIZE = 10_000;
+
+    private final ChannelRepository channelRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<Long, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationBus.subscribe(CACHE_NAME, key -> snapshots.remove(Long.parseLong(key)));
+    }
+
+    public ChannelSnapshot get(Long channelId) {
+        long now = System.currentTimeMillis();
+        CachedSnapshot cached = snapshots.get(channelId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.snapshot();
+        }
+
+        ChannelSnapshot snapshot = channelRepository.findSnapshotById(channelId)
+                                                    .orElseThrow(() -> new BusinessException(ErrorCode.CHANNEL_NOT_FOUND));
+
+        if (snapshots.size() >= MAX_SIZE) {
+            snapshots.values()
+                     .removeIf(entry -> entry.expiresAt() <= now);
+            if (snapshots.size() >= MAX_SIZE) {
+                snapshots.clear();
+            }
+        }
+        snapshots.put(channelId, new CachedSnapshot(snapshot, now + TTL.toMillis()));
+        return snapshot;
+    }
+
+    public void evict(Long channelId) {
+        snapshots.remove(channelId);
+        invalidationBus.publish(CACHE_NAME, String.valueOf(channelId));
+    }
+
+    private record CachedSnapshot(ChannelSnapshot snapshot, long expiresAt) {
+    }
+}
@@ -103,9 +103,11 @@ public class ChannelController {
     @RequireWorkspaceRole({WorkspaceUserRole.OWNER, WorkspaceUserRole.MANAGER, WorkspaceUserRole.MEMBER, WorkspaceUserRole.GUEST})
     public ResponseEntity<ChannelUserListResponse> getChannelUsers(
             @PathVariable Long workspaceId,
-            @PathVariable Long channelId
+            @PathVariable Long channelId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
     ) {
-        ChannelUserListResponse response = channelAccessService.getChannelUsers(workspaceId, channelId);
+        ChannelUserListResponse response = channelAccessService.getChannelUsers(workspaceId, channelId, page, size);
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
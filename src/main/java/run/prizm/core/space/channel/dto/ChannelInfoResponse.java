@@ -6,6 +6,7 @@ public record ChannelInfoResponse(
         Long id,
         String name,
         String description,
+        boolean autoTranslate,
         ChannelWorkspaceUserNotify myNotify
 ) {
 }
\ No newline at end of file
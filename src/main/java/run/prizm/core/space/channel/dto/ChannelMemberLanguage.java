@@ -0,0 +1,13 @@
+package run.prizm.core.space.channel.dto;
+
+import run.prizm.core.common.constraint.Language;
+
+/**
+ * 자동 번역 대상 언어 계산용 워크스페이스 멤버 projection
+ */
+public record ChannelMemberLanguage(
+        Long workspaceUserId,
+        Long userId,
+        Language language
+) {
+}
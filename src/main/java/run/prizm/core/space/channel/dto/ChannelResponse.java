@@ -12,6 +12,7 @@ public record ChannelResponse(
         String name,
         String description,
         String zIndex,
+        boolean autoTranslate,
         Instant createdAt
 ) {
 }
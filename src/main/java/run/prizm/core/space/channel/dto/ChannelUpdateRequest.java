@@ -2,6 +2,7 @@ package run.prizm.core.space.channel.dto;
 
 public record ChannelUpdateRequest(
         String name,
-        String description
+        String description,
+        Boolean autoTranslate
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package run.prizm.core.space.channel.dto;
+
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+import run.prizm.core.space.workspace.constraint.WorkspaceUserState;
+
+/**
+ * 채널 사용자 목록용 워크스페이스 멤버 projection (연관 엔티티 Lazy Loading 없음)
+ */
+public record ChannelUserRow(
+        Long id,
+        WorkspaceUserRole role,
+        WorkspaceUserState state,
+        String name,
+        String workspaceImagePath,
+        String userImagePath
+) {
+}
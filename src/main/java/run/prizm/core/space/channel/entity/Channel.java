@@ -44,6 +44,10 @@ public class Channel {
     @Column(nullable = false)
     private BigDecimal zIndex;
 
+    // 새 메시지를 멤버들의 언어로 미리 번역
+    @Column(nullable = false)
+    private boolean autoTranslate;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
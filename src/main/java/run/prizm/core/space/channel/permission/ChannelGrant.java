@@ -0,0 +1,13 @@
+package run.prizm.core.space.channel.permission;
+
+import run.prizm.core.space.group.constraint.GroupChannelPermission;
+
+/**
+ * 워크스페이스 유저에게 부여된 채널 권한 한 건 (그룹 권한 또는 게스트 명시 참여)
+ */
+public record ChannelGrant(
+        Long workspaceUserId,
+        Long channelId,
+        GroupChannelPermission permission
+) {
+}
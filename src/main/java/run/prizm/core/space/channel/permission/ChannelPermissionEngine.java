@@ -0,0 +1,151 @@
+package run.prizm.core.space.channel.permission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import run.prizm.core.properties.CacheProperties;
+import run.prizm.core.space.channel.constraint.ChannelType;
+import run.prizm.core.space.channel.repository.ChannelRepository;
+import run.prizm.core.space.channel.repository.ChannelWorkspaceUserRepository;
+import run.prizm.core.space.group.repository.GroupChannelRepository;
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+import run.prizm.core.storage.cache.CacheMetrics;
+import run.prizm.core.storage.cache.LocalCacheStore;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 워크스페이스 단위 채널 권한 엔진
+ * 워크스페이스의 그룹→채널 권한, 게스트 명시 참여, CHAT 채널 목록, 멤버 역할을 각각 한 번의 쿼리로 읽어
+ * ChannelPermissionTable 로 만들어 두고, 권한 검사는 배열 조회로 처리한다.
+ * 권한에 영향을 주는 변경은 invalidate(workspaceId) 로 커밋 이후 모든 노드에서 무효화하고,
+ * 무효화 호출이 빠진 경로나 유실된 pub/sub 메시지는 local-ttl 이 지나면 다시 읽어 바로잡는다.
+ */
+@Component
+public class ChannelPermissionEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelPermissionEngine.class);
+    private static final String CACHE_NAME = "channelPermission";
+
+    private final ChannelRepository channelRepository;
+    private final ChannelWorkspaceUserRepository channelWorkspaceUserRepository;
+    private final GroupChannelRepository groupChannelRepository;
+    private final WorkspaceUserRepository workspaceUserRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheMetrics metrics;
+    private final LocalCacheStore<Long, ChannelPermissionTable> tables;
+
+    // 로딩 도중 무효화가 일어났는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+    private final Object lock = new Object();
+
+    public ChannelPermissionEngine(ChannelRepository channelRepository,
+                                   ChannelWorkspaceUserRepository channelWorkspaceUserRepository,
+                                   GroupChannelRepository groupChannelRepository,
+                                   WorkspaceUserRepository workspaceUserRepository,
+                                   CacheInvalidationBus invalidationBus, CacheProperties cacheProperties,
+                                   MeterRegistry meterRegistry) {
+        CacheProperties.Spec spec = cacheProperties.spec(CACHE_NAME);
+        this.channelRepository = channelRepository;
+        this.channelWorkspaceUserRepository = channelWorkspaceUserRepository;
+        this.groupChannelRepository = groupChannelRepository;
+        this.workspaceUserRepository = workspaceUserRepository;
+        this.invalidationBus = invalidationBus;
+        this.metrics = new CacheMetrics(meterRegistry, CACHE_NAME);
+        this.tables = new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(), metrics);
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationBus.subscribe(CACHE_NAME, key -> evictLocal(Long.parseLong(key)));
+    }
+
+    public ChannelPermission getPermission(Long workspaceId, Long workspaceUserId, WorkspaceUserRole role,
+                                           Long channelId) {
+        ChannelPermissionTable table = table(workspaceId);
+        return switch (role) {
+            case OWNER, MANAGER -> table.managerPermission(channelId);
+            case GUEST -> table.guestPermission(workspaceUserId, channelId);
+            default -> table.memberPermission(workspaceUserId, channelId);
+        };
+    }
+
+    public Map<Long, ChannelPermission> getPermissions(Long workspaceId, Long workspaceUserId, WorkspaceUserRole role) {
+        ChannelPermissionTable table = table(workspaceId);
+        return switch (role) {
+            case OWNER, MANAGER -> table.managerPermissions();
+            case GUEST -> table.guestPermissions(workspaceUserId);
+            default -> table.memberPermissions(workspaceUserId);
+        };
+    }
+
+    /**
+     * 채널에 접근 가능한 멤버와 권한 (workspaceUserId -> 권한)
+     */
+    public Map<Long, ChannelPermission> getChannelMembers(Long workspaceId, Long channelId) {
+        return table(workspaceId).channelMembers(channelId);
+    }
+
+    /**
+     * 워크스페이스 권한 테이블 무효화 (트랜잭션 중이면 커밋 이후 수행)
+     */
+    public void invalidate(Long workspaceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(workspaceId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(workspaceId);
+            }
+        });
+    }
+
+    private ChannelPermissionTable table(Long workspaceId) {
+        ChannelPermissionTable table = tables.get(workspaceId);
+        if (table != null) {
+            metrics.localHit();
+            return table;
+        }
+
+        metrics.miss();
+        long loadingGeneration = generation.get();
+        table = ChannelPermissionTable.build(
+                channelRepository.findIdsByWorkspaceIdAndType(workspaceId, ChannelType.CHAT),
+                groupChannelRepository.findMemberGrantsByWorkspaceId(workspaceId),
+                channelWorkspaceUserRepository.findGuestGrantsByWorkspaceId(workspaceId),
+                workspaceUserRepository.findMemberRolesByWorkspaceId(workspaceId));
+
+        synchronized (lock) {
+            // 로딩 중 무효화되었다면 이번 결과는 캐시하지 않는다
+            if (generation.get() == loadingGeneration) {
+                tables.put(workspaceId, table);
+            }
+        }
+        return table;
+    }
+
+    private void evict(Long workspaceId) {
+        evictLocal(workspaceId);
+        try {
+            invalidationBus.publish(CACHE_NAME, String.valueOf(workspaceId));
+        } catch (Exception e) {
+            logger.warn("Failed to publish channel permission invalidation: workspaceId={}", workspaceId, e);
+        }
+    }
+
+    private void evictLocal(Long workspaceId) {
+        synchronized (lock) {
+            generation.incrementAndGet();
+            tables.remove(workspaceId);
+        }
+    }
+}
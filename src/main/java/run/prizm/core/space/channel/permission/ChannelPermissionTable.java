@@ -0,0 +1,179 @@
+package run.prizm.core.space.channel.permission;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 워크스페이스 단위 채널 권한 테이블
+ * 채널마다 dense ordinal 을 부여하고, 멤버별 권한을 채널당 2bit 로 long[] 에 packing 한다.
+ * 채널 → 멤버 역인덱스는 같은 비트열에서 채널별로 한 번만 구성되며 테이블과 함께 무효화된다.
+ */
+final class ChannelPermissionTable {
+
+    private static final int BITS_PER_CHANNEL = 2;
+    private static final int CHANNELS_PER_WORD = Long.SIZE / BITS_PER_CHANNEL;
+    private static final ChannelPermission[] LEVELS = ChannelPermission.values();
+
+    // 정렬된 channelId, 인덱스가 ordinal
+    private final long[] channelIds;
+    // OWNER / MANAGER: 모든 CHAT 채널 MANAGE
+    private final long[] managerBits;
+    // MEMBER: 소속 그룹 권한 중 최댓값
+    private final Map<Long, long[]> memberBits;
+    // GUEST: 명시 참여 채널 WRITE
+    private final Map<Long, long[]> guestBits;
+    private final List<WorkspaceMemberRole> memberRoles;
+    // channelId -> (workspaceUserId -> 권한) 역인덱스, 채널별로 처음 조회할 때 구성
+    private final Map<Long, Map<Long, ChannelPermission>> channelMembers = new ConcurrentHashMap<>();
+
+    private ChannelPermissionTable(long[] channelIds, long[] managerBits, Map<Long, long[]> memberBits,
+                                   Map<Long, long[]> guestBits, List<WorkspaceMemberRole> memberRoles) {
+        this.channelIds = channelIds;
+        this.managerBits = managerBits;
+        this.memberBits = memberBits;
+        this.guestBits = guestBits;
+        this.memberRoles = memberRoles;
+    }
+
+    static ChannelPermissionTable build(Collection<Long> chatChannelIds, List<ChannelGrant> memberGrants,
+                                        List<ChannelGrant> guestGrants, List<WorkspaceMemberRole> memberRoles) {
+        long[] channelIds = collectChannelIds(chatChannelIds, memberGrants, guestGrants);
+        int words = (channelIds.length + CHANNELS_PER_WORD - 1) / CHANNELS_PER_WORD;
+
+        long[] managerBits = new long[words];
+        for (Long channelId : chatChannelIds) {
+            set(managerBits, Arrays.binarySearch(channelIds, channelId), ChannelPermission.MANAGE);
+        }
+
+        return new ChannelPermissionTable(channelIds, managerBits,
+                pack(channelIds, words, memberGrants), pack(channelIds, words, guestGrants), memberRoles);
+    }
+
+    ChannelPermission managerPermission(Long channelId) {
+        return get(managerBits, channelId);
+    }
+
+    ChannelPermission memberPermission(Long workspaceUserId, Long channelId) {
+        return get(memberBits.get(workspaceUserId), channelId);
+    }
+
+    ChannelPermission guestPermission(Long workspaceUserId, Long channelId) {
+        return get(guestBits.get(workspaceUserId), channelId);
+    }
+
+    Map<Long, ChannelPermission> managerPermissions() {
+        return unpack(managerBits);
+    }
+
+    Map<Long, ChannelPermission> memberPermissions(Long workspaceUserId) {
+        return unpack(memberBits.get(workspaceUserId));
+    }
+
+    Map<Long, ChannelPermission> guestPermissions(Long workspaceUserId) {
+        return unpack(guestBits.get(workspaceUserId));
+    }
+
+    /**
+     * 채널에 READ 이상 권한이 있는 멤버 (workspaceUserId -> 권한)
+     */
+    Map<Long, ChannelPermission> channelMembers(Long channelId) {
+        int ordinal = Arrays.binarySearch(channelIds, channelId);
+        if (ordinal < 0) {
+            return Map.of();
+        }
+        return channelMembers.computeIfAbsent(channelId, key -> {
+            Map<Long, ChannelPermission> members = new HashMap<>();
+            for (WorkspaceMemberRole memberRole : memberRoles) {
+                long[] bits = switch (memberRole.role()) {
+                    case OWNER, MANAGER -> managerBits;
+                    case GUEST -> guestBits.get(memberRole.workspaceUserId());
+                    default -> memberBits.get(memberRole.workspaceUserId());
+                };
+                if (bits != null && level(bits, ordinal) != ChannelPermission.NONE) {
+                    members.put(memberRole.workspaceUserId(), level(bits, ordinal));
+                }
+            }
+            return Collections.unmodifiableMap(members);
+        });
+    }
+
+    private ChannelPermission get(long[] bits, Long channelId) {
+        if (bits == null) {
+            return ChannelPermission.NONE;
+        }
+        int ordinal = Arrays.binarySearch(channelIds, channelId);
+        if (ordinal < 0) {
+            return ChannelPermission.NONE;
+        }
+        return level(bits, ordinal);
+    }
+
+    private Map<Long, ChannelPermission> unpack(long[] bits) {
+        if (bits == null) {
+            return Map.of();
+        }
+        Map<Long, ChannelPermission> permissions = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < channelIds.length; ordinal++) {
+            ChannelPermission permission = level(bits, ordinal);
+            if (permission != ChannelPermission.NONE) {
+                permissions.put(channelIds[ordinal], permission);
+            }
+        }
+        return permissions;
+    }
+
+    private static long[] collectChannelIds(Collection<Long> chatChannelIds, List<ChannelGrant> memberGrants,
+                                            List<ChannelGrant> guestGrants) {
+        long[] ids = new long[chatChannelIds.size() + memberGrants.size() + guestGrants.size()];
+        int size = 0;
+        for (Long channelId : chatChannelIds) {
+            ids[size++] = channelId;
+        }
+        for (ChannelGrant grant : memberGrants) {
+            ids[size++] = grant.channelId();
+        }
+        for (ChannelGrant grant : guestGrants) {
+            ids[size++] = grant.channelId();
+        }
+        return Arrays.stream(ids, 0, size)
+                     .sorted()
+                     .distinct()
+                     .toArray();
+    }
+
+    private static Map<Long, long[]> pack(long[] channelIds, int words, List<ChannelGrant> grants) {
+        Map<Long, long[]> bitsByMember = new HashMap<>();
+        for (ChannelGrant grant : grants) {
+            long[] bits = bitsByMember.computeIfAbsent(grant.workspaceUserId(), key -> new long[words]);
+            int ordinal = Arrays.binarySearch(channelIds, grant.channelId());
+            ChannelPermission permission = ChannelPermission.max(level(bits, ordinal), convert(grant));
+            set(bits, ordinal, permission);
+        }
+        return bitsByMember;
+    }
+
+    private static ChannelPermission convert(ChannelGrant grant) {
+        return switch (grant.permission()) {
+            case READ -> ChannelPermission.READ;
+            case WRITE -> ChannelPermission.WRITE;
+            case MANAGE -> ChannelPermission.MANAGE;
+        };
+    }
+
+    private static ChannelPermission level(long[] bits, int ordinal) {
+        int shift = (ordinal % CHANNELS_PER_WORD) * BITS_PER_CHANNEL;
+        return LEVELS[(int) ((bits[ordinal / CHANNELS_PER_WORD] >>> shift) & 0b11)];
+    }
+
+    private static void set(long[] bits, int ordinal, ChannelPermission permission) {
+        int word = ordinal / CHANNELS_PER_WORD;
+        int shift = (ordinal % CHANNELS_PER_WORD) * BITS_PER_CHANNEL;
+        bits[word] = (bits[word] & ~(0b11L << shift)) | ((long) permission.getLevel() << shift);
+    }
+}
@@ -0,0 +1,12 @@
+package run.prizm.core.space.channel.permission;
+
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+
+/**
+ * 권한 테이블 구성용 워크스페이스 멤버 역할
+ */
+public record WorkspaceMemberRole(
+        Long workspaceUserId,
+        WorkspaceUserRole role
+) {
+}
@@ -2,6 +2,7 @@ package run.prizm.core.space.channel.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import run.prizm.core.space.channel.cache.ChannelSnapshot;
 import run.prizm.core.space.channel.constraint.ChannelType;
 import run.prizm.core.space.channel.entity.Channel;
 
@@ -17,4 +18,11 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
     Optional<Channel> findFirstByCategoryIdAndDeletedAtIsNullOrderByZIndexDesc(Long categoryId);
 
     List<Channel> findByWorkspaceIdAndTypeAndDeletedAtIsNull(Long workspaceId, ChannelType type);
+
+    @Query("SELECT c.id FROM Channel c WHERE c.workspace.id = :workspaceId AND c.type = :type AND c.deletedAt IS NULL")
+    List<Long> findIdsByWorkspaceIdAndType(Long workspaceId, ChannelType type);
+
+    @Query("SELECT new run.prizm.core.space.channel.cache.ChannelSnapshot(c.id, c.workspace.id, c.type, c.autoTranslate) " +
+            "FROM Channel c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<ChannelSnapshot> findSnapshotById(Long id);
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package run.prizm.core.space.channel.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import run.prizm.core.space.channel.entity.Channel;
 import run.prizm.core.space.channel.entity.ChannelWorkspaceUser;
+import run.prizm.core.space.channel.permission.ChannelGrant;
 import run.prizm.core.space.workspace.entity.WorkspaceUser;
 
 import java.util.List;
@@ -17,4 +19,15 @@ public interface ChannelWorkspaceUserRepository extends JpaRepository<ChannelWor
     List<ChannelWorkspaceUser> findByWorkspaceUserAndExplicitTrue(WorkspaceUser workspaceUser);
     
     List<ChannelWorkspaceUser> findByWorkspaceUserId(Long workspaceUserId);
+
+    @Query("SELECT c.id FROM ChannelWorkspaceUser cwu JOIN cwu.channel c " +
+            "WHERE cwu.workspaceUser.id = :workspaceUserId AND cwu.explicit = true AND c.deletedAt IS NULL")
+    List<Long> findExplicitChannelIdsByWorkspaceUserId(Long workspaceUserId);
+
+    // 워크스페이스 게스트의 명시 참여 채널 (게스트는 참여 채널에 WRITE)
+    @Query("SELECT new run.prizm.core.space.channel.permission.ChannelGrant(cwu.workspaceUser.id, c.id, " +
+            "run.prizm.core.space.group.constraint.GroupChannelPermission.WRITE) " +
+            "FROM ChannelWorkspaceUser cwu JOIN cwu.channel c " +
+            "WHERE c.workspace.id = :workspaceId AND cwu.explicit = true AND c.deletedAt IS NULL")
+    List<ChannelGrant> findGuestGrantsByWorkspaceId(Long workspaceId);
 }
\ No newline at end of file
@@ -1,19 +1,24 @@
 package run.prizm.core.space.channel.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.security.permission.WorkspaceMembershipResolver;
 import run.prizm.core.space.category.entity.Category;
 import run.prizm.core.space.category.repository.CategoryRepository;
+import run.prizm.core.space.channel.cache.ChannelAccessCache;
 import run.prizm.core.space.channel.dto.AccessibleChannelListResponse;
 import run.prizm.core.space.channel.dto.ChannelUserListResponse;
+import run.prizm.core.space.channel.dto.ChannelUserRow;
 import run.prizm.core.space.channel.entity.Channel;
 import run.prizm.core.space.channel.permission.ChannelPermission;
 import run.prizm.core.space.channel.permission.ChannelPermissionCalculator;
+import run.prizm.core.space.channel.permission.ChannelPermissionEngine;
 import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
 import run.prizm.core.space.workspace.entity.WorkspaceUser;
 import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
@@ -23,22 +28,38 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ChannelAccessService {
 
+    private static final int MAX_ID_PARAMETERS = 10_000;
+    // findChannelUserRowsByIdIn 의 ORDER BY 와 같은 순서 (게스트는 뒤로, 이름순)
+    private static final Comparator<ChannelUserRow> CHANNEL_USER_ORDER = Comparator
+            .comparing((ChannelUserRow row) -> row.role() == WorkspaceUserRole.GUEST)
+            .thenComparing(ChannelUserRow::name, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ChannelUserRow::id);
+
     private final WorkspaceUserRepository workspaceUserRepository;
+    private final WorkspaceMembershipResolver membershipResolver;
     private final CategoryRepository categoryRepository;
     private final ChannelPermissionCalculator permissionCalculator;
+    private final ChannelPermissionEngine channelPermissionEngine;
     private final S3Service s3Service;
+    private final ChannelAccessCache channelAccessCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Cacheable(value = "channelAccess", key = "#workspaceId + ':' + #userId")
-    @Transactional(readOnly = true)
+    /**
+     * 사이드바 채널 목록 (캐시 적중 시 DB 트랜잭션을 열지 않는다)
+     */
     public AccessibleChannelListResponse getAccessibleChannels(Long workspaceId, Long userId) {
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        return channelAccessCache.get(workspaceId, userId,
+                () -> transactionTemplate.execute(status -> loadAccessibleChannels(workspaceId, userId)));
+    }
+
+    private AccessibleChannelListResponse loadAccessibleChannels(Long workspaceId, Long userId) {
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
         Map<Long, ChannelPermission> permissions = permissionCalculator.calculatePermissions(workspaceUser);
 
@@ -77,69 +98,85 @@ public class ChannelAccessService {
         return new AccessibleChannelListResponse(result);
     }
 
+    /**
+     * 채널 멤버 목록
+     * 접근 가능한 멤버는 ChannelPermissionEngine 의 채널 → 멤버 인덱스로 정하고,
+     * 그 id 들의 표시 정보만 이름순 projection 으로 읽어 SQL 에서 페이지를 자른다.
+     * size 가 없으면 전체를 반환한다.
+     */
     @Transactional(readOnly = true)
-    public ChannelUserListResponse getChannelUsers(Long workspaceId, Long channelId) {
-        List<WorkspaceUser> allWorkspaceUsers = workspaceUserRepository
-                .findByWorkspaceIdAndDeletedAtIsNull(workspaceId);
+    public ChannelUserListResponse getChannelUsers(Long workspaceId, Long channelId, Integer page, Integer size) {
+        Pageable pageable = Pageable.unpaged();
+        if (size != null) {
+            if (size <= 0 || (page != null && page < 0)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            pageable = PageRequest.of(page != null ? page : 0, size);
+        }
+        List<ChannelUserRow> rows = findChannelUserRows(channelPermissionEngine
+                .getChannelMembers(workspaceId, channelId)
+                .keySet(), pageable);
 
         List<ChannelUserListResponse.UserItem> regularUsers = new ArrayList<>();
         List<ChannelUserListResponse.UserItem> guestUsers = new ArrayList<>();
 
-        for (WorkspaceUser wu : allWorkspaceUsers) {
-            Map<Long, ChannelPermission> permissions = permissionCalculator.calculatePermissions(wu);
-
-            if (permissions.containsKey(channelId) && permissions.get(channelId) != ChannelPermission.NONE) {
-                String image = wu.getImage() != null
-                        ? s3Service.getFileUrl(wu.getImage()
-                                                 .getPath())
-                        : (wu.getUser()
-                             .getImage() != null
-                        ? s3Service.getFileUrl(wu.getUser()
-                                                 .getImage()
-                                                 .getPath())
-                        : null);
-                String name = wu.getName() != null ? wu.getName() : wu.getUser()
-                                                                      .getName();
-
-                ChannelUserListResponse.UserItem item = new ChannelUserListResponse.UserItem(
-                        wu.getId(),
-                        wu.getState(),
-                        image,
-                        name
-                );
-
-                if (wu.getRole() == WorkspaceUserRole.GUEST) {
-                    guestUsers.add(item);
-                } else {
-                    regularUsers.add(item);
-                }
+        rows.forEach(row -> {
+            String imagePath = row.workspaceImagePath() != null ? row.workspaceImagePath() : row.userImagePath();
+            ChannelUserListResponse.UserItem item = new ChannelUserListResponse.UserItem(
+                    row.id(),
+                    row.state(),
+                    imagePath != null ? s3Service.getFileUrl(imagePath) : null,
+                    row.name()
+            );
+
+            if (row.role() == WorkspaceUserRole.GUEST) {
+                guestUsers.add(item);
+            } else {
+                regularUsers.add(item);
             }
-        }
-
-        regularUsers.sort(Comparator.comparing(ChannelUserListResponse.UserItem::name));
-        guestUsers.sort(Comparator.comparing(ChannelUserListResponse.UserItem::name));
+        });
 
         return new ChannelUserListResponse(regularUsers, guestUsers);
     }
 
-    @CacheEvict(value = "channelAccess", key = "#workspaceId + ':' + #userId")
+    // IN 바인딩 파라미터 한도를 넘는 큰 채널은 나눠 읽은 뒤 같은 순서로 정렬해 페이지를 자른다
+    private List<ChannelUserRow> findChannelUserRows(Set<Long> memberIds, Pageable pageable) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        if (memberIds.size() <= MAX_ID_PARAMETERS) {
+            return workspaceUserRepository.findChannelUserRowsByIdIn(memberIds, pageable);
+        }
+
+        List<Long> ids = List.copyOf(memberIds);
+        List<ChannelUserRow> rows = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_ID_PARAMETERS) {
+            rows.addAll(workspaceUserRepository.findChannelUserRowsByIdIn(
+                    ids.subList(from, Math.min(from + MAX_ID_PARAMETERS, ids.size())), Pageable.unpaged()));
+        }
+        rows.sort(CHANNEL_USER_ORDER);
+        if (pageable.isUnpaged()) {
+            return rows;
+        }
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        return rows.subList(from, Math.min(from + pageable.getPageSize(), rows.size()));
+    }
+
     public void invalidateCache(Long workspaceId, Long userId) {
+        channelAccessCache.invalidate(workspaceId, userId);
+        channelPermissionEngine.invalidate(workspaceId);
     }
 
-    @CacheEvict(value = "channelAccess", allEntries = true)
     public void invalidateWorkspaceCache(Long workspaceId) {
+        channelAccessCache.invalidateWorkspace(workspaceId);
+        channelPermissionEngine.invalidate(workspaceId);
     }
 
     @Transactional(readOnly = true)
     public String getChannelPermission(Long workspaceId, Long userId, Long channelId) {
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
-
-        Map<Long, ChannelPermission> permissions = permissionCalculator.calculatePermissions(workspaceUser);
-
-        ChannelPermission permission = permissions.getOrDefault(channelId, ChannelPermission.NONE);
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
-        return permission.name();
+        return permissionCalculator.calculatePermission(workspaceUser, channelId)
+                                   .name();
     }
 }
@@ -6,8 +6,12 @@ import org.springframework.transaction.annotation.Transactional;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 import run.prizm.core.common.util.ZIndexCalculator;
+import run.prizm.core.message.cache.MessageRingCache;
+import run.prizm.core.security.permission.WorkspaceMembershipResolver;
 import run.prizm.core.space.category.entity.Category;
 import run.prizm.core.space.category.repository.CategoryRepository;
+import run.prizm.core.space.channel.cache.ChannelSnapshotCache;
+import run.prizm.core.space.channel.constraint.ChannelType;
 import run.prizm.core.space.channel.constraint.ChannelWorkspaceUserNotify;
 import run.prizm.core.space.channel.dto.*;
 import run.prizm.core.space.channel.entity.Channel;
@@ -32,6 +36,9 @@ public class ChannelService {
     private final CategoryRepository categoryRepository;
     private final ChannelWorkspaceUserRepository channelWorkspaceUserRepository;
     private final WorkspaceUserRepository workspaceUserRepository;
+    private final WorkspaceMembershipResolver membershipResolver;
+    private final ChannelSnapshotCache channelSnapshotCache;
+    private final MessageRingCache messageRingCache;
 
     @Transactional
     public ChannelResponse createChannel(Long workspaceId, Long categoryId, ChannelCreateRequest request) {
@@ -65,9 +72,7 @@ public class ChannelService {
         Channel channel = channelRepository.findById(channelId)
                                            .orElseThrow(() -> new BusinessException(ErrorCode.CHANNEL_NOT_FOUND));
 
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
         ChannelWorkspaceUserNotify notify = channelWorkspaceUserRepository
                 .findByChannelAndWorkspaceUser(channel, workspaceUser)
@@ -78,6 +83,7 @@ public class ChannelService {
                 channel.getId(),
                 channel.getName(),
                 channel.getDescription(),
+                channel.isAutoTranslate(),
                 notify
         );
     }
@@ -95,6 +101,15 @@ public class ChannelService {
             channel.setDescription(request.description());
         }
 
+        if (request.autoTranslate() != null && request.autoTranslate() != channel.isAutoTranslate()) {
+            // 멤버 목록은 CHAT 채널 권한 테이블에서 읽는다
+            if (request.autoTranslate() && channel.getType() != ChannelType.CHAT) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "Auto translation is only available for chat channels");
+            }
+            channel.setAutoTranslate(request.autoTranslate());
+            channelSnapshotCache.evict(channelId);
+        }
+
         channel = channelRepository.save(channel);
 
         return toResponse(channel);
@@ -163,6 +178,8 @@ public class ChannelService {
 
         channel.setDeletedAt(Instant.now());
         channelRepository.save(channel);
+        channelSnapshotCache.evict(channelId);
+        messageRingCache.evict(channelId);
     }
 
     private ChannelResponse toResponse(Channel channel) {
@@ -177,6 +194,7 @@ public class ChannelService {
                 channel.getDescription(),
                 channel.getZIndex()
                        .toPlainString(),
+                channel.isAutoTranslate(),
                 channel.getCreatedAt()
         );
     }
@@ -3,6 +3,7 @@ package run.prizm.core.space.group.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import run.prizm.core.space.channel.permission.ChannelGrant;
 import run.prizm.core.space.group.entity.GroupChannel;
 
 import java.util.List;
@@ -12,6 +13,12 @@ public interface GroupChannelRepository extends JpaRepository<GroupChannel, Long
     @Query("SELECT gc FROM GroupChannel gc WHERE gc.group.id = :groupId AND gc.channel.deletedAt IS NULL")
     List<GroupChannel> findByGroupIdAndChannelDeletedAtIsNull(Long groupId);
 
+    // 워크스페이스 멤버별 그룹 채널 권한 (삭제된 그룹/채널 제외)
+    @Query("SELECT new run.prizm.core.space.channel.permission.ChannelGrant(gwu.workspaceUser.id, c.id, gc.permission) " +
+            "FROM GroupWorkspaceUser gwu JOIN gwu.group g JOIN GroupChannel gc ON gc.group = g JOIN gc.channel c " +
+            "WHERE g.workspace.id = :workspaceId AND g.deletedAt IS NULL AND c.deletedAt IS NULL")
+    List<ChannelGrant> findMemberGrantsByWorkspaceId(Long workspaceId);
+
     @Modifying
     @Query("DELETE FROM GroupChannel gc WHERE gc.group.id = :groupId")
     void deleteByGroupId(Long groupId);
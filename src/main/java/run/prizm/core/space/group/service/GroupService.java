@@ -203,5 +203,7 @@ public class GroupService {
 
         group.setDeletedAt(Instant.now());
         groupRepository.save(group);
+        channelAccessService.invalidateWorkspaceCache(group.getWorkspace()
+                                                           .getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package run.prizm.core.space.workspace.cache;
+
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+
+import java.io.Serializable;
+
+/**
+ * 메시지 전송 시 필요한 발신자 정보 스냅샷
+ * name 은 워크스페이스 이름이 없으면 전역 User 이름으로 채워진다.
+ */
+public record WorkspaceUserSnapshot(
+        Long id,
+        Long workspaceId,
+        Long userId,
+        String name,
+        String avatarPath,
+        WorkspaceUserRole role
+) implements Serializable {
+}
@@ -0,0 +1,134 @@
+package run.prizm.core.space.workspace.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.properties.CacheProperties;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+import run.prizm.core.storage.cache.CacheMetrics;
+import run.prizm.core.storage.cache.LocalCacheStore;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+import run.prizm.core.storage.redis.WorkspaceUserSnapshotCacheRepository;
+
+/**
+ * 메시지 발신자 스냅샷 캐시 (L1: in-process LRU + TTL, L2: Redis)
+ * 프로필/역할/탈퇴 등 변경 시 커밋 이후 Redis pub/sub 으로 모든 노드의 L1 을 무효화하고,
+ * 무효화 메시지가 유실되어도 L1 은 local-ttl 이 지나면 다시 읽는다.
+ */
+@Component
+public class WorkspaceUserSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceUserSnapshotCache.class);
+    private static final String CACHE_NAME = "workspaceUserSnapshot";
+
+    private final WorkspaceUserRepository workspaceUserRepository;
+    private final WorkspaceUserSnapshotCacheRepository snapshotCacheRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheMetrics metrics;
+    private final LocalCacheStore<Long, WorkspaceUserSnapshot> localCache;
+
+    public WorkspaceUserSnapshotCache(WorkspaceUserRepository workspaceUserRepository,
+                                      WorkspaceUserSnapshotCacheRepository snapshotCacheRepository,
+                                      CacheInvalidationBus invalidationBus, CacheProperties cacheProperties,
+                                      MeterRegistry meterRegistry) {
+        CacheProperties.Spec spec = cacheProperties.spec(CACHE_NAME);
+        this.workspaceUserRepository = workspaceUserRepository;
+        this.snapshotCacheRepository = snapshotCacheRepository;
+        this.invalidationBus = invalidationBus;
+        this.metrics = new CacheMetrics(meterRegistry, CACHE_NAME);
+        this.localCache = new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(), metrics);
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationBus.subscribe(CACHE_NAME, key -> localCache.remove(Long.parseLong(key)));
+    }
+
+    public WorkspaceUserSnapshot get(Long workspaceUserId) {
+        WorkspaceUserSnapshot snapshot = localCache.get(workspaceUserId);
+        if (snapshot != null) {
+            metrics.localHit();
+            return snapshot;
+        }
+
+        snapshot = findRemote(workspaceUserId);
+        if (snapshot != null) {
+            metrics.remoteHit();
+        } else {
+            metrics.miss();
+            snapshot = workspaceUserRepository.findSnapshotById(workspaceUserId)
+                                              .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+            saveRemote(snapshot);
+        }
+
+        localCache.put(workspaceUserId, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 워크스페이스 유저 단위 무효화 (트랜잭션 중이면 커밋 이후 수행)
+     */
+    public void invalidate(Long workspaceUserId) {
+        runAfterCommit(() -> evict(workspaceUserId));
+    }
+
+    /**
+     * 전역 User 변경 시 해당 유저의 모든 워크스페이스 스냅샷 무효화
+     */
+    public void invalidateUser(Long userId) {
+        workspaceUserRepository.findIdsByUserId(userId)
+                               .forEach(this::invalidate);
+    }
+
+    private void evict(Long workspaceUserId) {
+        localCache.remove(workspaceUserId);
+        try {
+            snapshotCacheRepository.delete(workspaceUserId);
+        } catch (Exception e) {
+            logger.warn("Failed to delete workspace user snapshot: workspaceUserId={}", workspaceUserId, e);
+        }
+        // L2 삭제가 실패해도 다른 노드의 L1 은 무효화한다
+        try {
+            invalidationBus.publish(CACHE_NAME, String.valueOf(workspaceUserId));
+        } catch (Exception e) {
+            logger.warn("Failed to publish workspace user snapshot invalidation: workspaceUserId={}",
+                    workspaceUserId, e);
+        }
+    }
+
+    private WorkspaceUserSnapshot findRemote(Long workspaceUserId) {
+        try {
+            return snapshotCacheRepository.find(workspaceUserId);
+        } catch (Exception e) {
+            logger.warn("Workspace user snapshot lookup failed, falling back to DB: workspaceUserId={}", workspaceUserId, e);
+            return null;
+        }
+    }
+
+    private void saveRemote(WorkspaceUserSnapshot snapshot) {
+        try {
+            snapshotCacheRepository.save(snapshot);
+        } catch (Exception e) {
+            logger.warn("Failed to cache workspace user snapshot: workspaceUserId={}", snapshot.id(), e);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
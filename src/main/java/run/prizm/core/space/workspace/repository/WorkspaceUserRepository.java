@@ -1,11 +1,17 @@
 package run.prizm.core.space.workspace.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import run.prizm.core.space.channel.dto.ChannelMemberLanguage;
+import run.prizm.core.space.channel.dto.ChannelUserRow;
+import run.prizm.core.space.channel.permission.WorkspaceMemberRole;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshot;
 import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
 import run.prizm.core.space.workspace.entity.WorkspaceUser;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +42,42 @@ public interface WorkspaceUserRepository extends JpaRepository<WorkspaceUser, Lo
             "LEFT JOIN FETCH wu.workspace w " +
             "WHERE wu.id = :id")
     Optional<WorkspaceUser> findByIdWithUser(@Param("id") Long id);
-}
\ No newline at end of file
+
+    @Query("SELECT new run.prizm.core.space.workspace.cache.WorkspaceUserSnapshot(" +
+            "wu.id, wu.workspace.id, u.id, COALESCE(wu.name, u.name), i.path, wu.role) " +
+            "FROM WorkspaceUser wu " +
+            "JOIN wu.user u " +
+            "LEFT JOIN wu.image i " +
+            "WHERE wu.id = :id " +
+            "AND wu.deletedAt IS NULL " +
+            "AND u.deletedAt IS NULL")
+    Optional<WorkspaceUserSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query("SELECT new run.prizm.core.space.channel.permission.WorkspaceMemberRole(wu.id, wu.role) " +
+            "FROM WorkspaceUser wu WHERE wu.workspace.id = :workspaceId AND wu.deletedAt IS NULL")
+    List<WorkspaceMemberRole> findMemberRolesByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // 채널 멤버 표시 정보 (멤버 판정은 ChannelPermissionEngine 이 하고 여기서는 정렬 / 페이지만), 게스트는 뒤로, 이름순
+    @Query("SELECT new run.prizm.core.space.channel.dto.ChannelUserRow(" +
+            "wu.id, wu.role, wu.state, COALESCE(wu.name, u.name), wi.path, ui.path) " +
+            "FROM WorkspaceUser wu " +
+            "JOIN wu.user u " +
+            "LEFT JOIN wu.image wi " +
+            "LEFT JOIN u.image ui " +
+            "WHERE wu.id IN :ids " +
+            "AND wu.deletedAt IS NULL " +
+            "ORDER BY CASE WHEN wu.role = run.prizm.core.space.workspace.constraint.WorkspaceUserRole.GUEST THEN 1 ELSE 0 END, " +
+            "COALESCE(wu.name, u.name), wu.id")
+    List<ChannelUserRow> findChannelUserRowsByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    @Query("SELECT new run.prizm.core.space.channel.dto.ChannelMemberLanguage(wu.id, u.id, u.language) " +
+            "FROM WorkspaceUser wu JOIN wu.user u " +
+            "WHERE wu.workspace.id = :workspaceId AND wu.deletedAt IS NULL AND u.deletedAt IS NULL")
+    List<ChannelMemberLanguage> findMemberLanguagesByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    @Query("SELECT wu.id FROM WorkspaceUser wu WHERE wu.user.id = :userId AND wu.deletedAt IS NULL")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT wu.workspace.id FROM WorkspaceUser wu WHERE wu.user.id = :userId AND wu.deletedAt IS NULL")
+    List<Long> findWorkspaceIdsByUserId(@Param("userId") Long userId);
+}
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.security.permission.WorkspaceMembershipResolver;
 import run.prizm.core.space.channel.constraint.ChannelWorkspaceUserNotify;
 import run.prizm.core.space.channel.entity.Channel;
 import run.prizm.core.space.channel.entity.ChannelWorkspaceUser;
@@ -40,6 +41,7 @@ public class WorkspaceInviteService {
 
     private final WorkspaceRepository workspaceRepository;
     private final WorkspaceUserRepository workspaceUserRepository;
+    private final WorkspaceMembershipResolver membershipResolver;
     private final UserRepository userRepository;
     private final WorkspaceInviteCacheRepository inviteCacheRepository;
     private final ChannelRepository channelRepository;
@@ -100,9 +102,7 @@ public class WorkspaceInviteService {
             Long channelId,
             List<Long> allowedUserIds
     ) {
-        WorkspaceUser creator = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, creatorUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser creator = membershipResolver.getWorkspaceUser(workspaceId, creatorUserId);
 
         Channel channel = channelRepository.findById(channelId)
                                            .orElseThrow(() -> new BusinessException(ErrorCode.CHANNEL_NOT_FOUND));
@@ -282,6 +282,8 @@ public class WorkspaceInviteService {
             }
         }
 
+        channelAccessService.invalidateWorkspaceCache(workspace.getId());
+
         cache.incrementUsage();
         if (cache.hasReachedMaxUses()) {
             inviteCacheRepository.delete(inviteCode);
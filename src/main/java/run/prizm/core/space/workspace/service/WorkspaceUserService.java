@@ -1,6 +1,9 @@
 package run.prizm.core.space.workspace.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import run.prizm.core.common.constant.FileDirectory;
@@ -8,8 +11,10 @@ import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 import run.prizm.core.common.util.ImageUploadHelper;
 import run.prizm.core.file.entity.File;
+import run.prizm.core.security.permission.WorkspaceMembershipResolver;
 import run.prizm.core.space.channel.service.ChannelAccessService;
 import run.prizm.core.space.group.repository.GroupWorkspaceUserRepository;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshotCache;
 import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
 import run.prizm.core.space.workspace.dto.*;
 import run.prizm.core.space.workspace.entity.WorkspaceUser;
@@ -24,10 +29,12 @@ import java.util.List;
 public class WorkspaceUserService {
 
     private final WorkspaceUserRepository workspaceUserRepository;
+    private final WorkspaceMembershipResolver membershipResolver;
     private final UserRepository userRepository;
     private final GroupWorkspaceUserRepository groupWorkspaceUserRepository;
     private final ImageUploadHelper imageUploadHelper;
     private final ChannelAccessService channelAccessService;
+    private final WorkspaceUserSnapshotCache workspaceUserSnapshotCache;
 
     @Transactional(readOnly = true)
     public WorkspaceUserListResponse getWorkspaceUsers(Long workspaceId, WorkspaceUserRole roleFilter) {
@@ -61,11 +68,10 @@ public class WorkspaceUserService {
         return new WorkspaceUserListResponse(items);
     }
 
+    @Cacheable(value = "workspaceUserProfile", key = "#workspaceId + ':' + #userId")
     @Transactional(readOnly = true)
     public WorkspaceUserSimpleProfileResponse getSimpleProfile(Long workspaceId, Long userId) {
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
         String image = workspaceUser.getImage() != null
                 ? imageUploadHelper.getImageUrl(workspaceUser.getImage())
@@ -86,11 +92,10 @@ public class WorkspaceUserService {
         );
     }
 
+    @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #userId")
     @Transactional
     public void updateProfile(Long workspaceId, Long userId, WorkspaceUserProfileUpdateRequest request) {
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
         if (request.image() != null && !request.image()
                                                .isEmpty()) {
@@ -115,37 +120,36 @@ public class WorkspaceUserService {
         }
 
         workspaceUserRepository.save(workspaceUser);
+        workspaceUserSnapshotCache.invalidate(workspaceUser.getId());
     }
 
+    @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #userId")
     @Transactional
     public void updateNotify(Long workspaceId, Long userId, WorkspaceUserNotifyUpdateRequest request) {
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
         workspaceUser.setNotify(request.notifyType());
         workspaceUserRepository.save(workspaceUser);
     }
 
+    @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #userId")
     @Transactional
     public void updateState(Long workspaceId, Long userId, WorkspaceUserStateUpdateRequest request) {
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
         workspaceUser.setState(request.state());
         workspaceUserRepository.save(workspaceUser);
     }
 
+    @Caching(evict = {
+            @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #targetUserId"),
+            @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #requesterId")
+    })
     @Transactional
     public void updateRole(Long workspaceId, Long targetUserId, WorkspaceUserRole newRole, Long requesterId) {
-        WorkspaceUser requester = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, requesterId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser requester = membershipResolver.getWorkspaceUser(workspaceId, requesterId);
 
-        WorkspaceUser target = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, targetUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser target = membershipResolver.getWorkspaceUser(workspaceId, targetUserId);
 
         if (requester.getRole() != WorkspaceUserRole.OWNER && requester.getRole() != WorkspaceUserRole.MANAGER) {
             throw new BusinessException(ErrorCode.INSUFFICIENT_PERMISSION);
@@ -164,27 +168,29 @@ public class WorkspaceUserService {
 
         channelAccessService.invalidateCache(workspaceId, targetUserId);
         channelAccessService.invalidateCache(workspaceId, requesterId);
+        workspaceUserSnapshotCache.invalidate(target.getId());
+        workspaceUserSnapshotCache.invalidate(requester.getId());
     }
 
+    @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #targetUserId")
     @Transactional
     public void kickUser(Long workspaceId, Long targetUserId) {
-        WorkspaceUser target = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, targetUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser target = membershipResolver.getWorkspaceUser(workspaceId, targetUserId);
 
         target.setDeletedAt(Instant.now());
         workspaceUserRepository.save(target);
+        workspaceUserSnapshotCache.invalidate(target.getId());
     }
 
+    @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #targetUserId")
     @Transactional
     public void banUser(Long workspaceId, Long targetUserId) {
-        WorkspaceUser target = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, targetUserId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser target = membershipResolver.getWorkspaceUser(workspaceId, targetUserId);
 
         target.setBanned(true);
         target.setDeletedAt(Instant.now());
         workspaceUserRepository.save(target);
+        workspaceUserSnapshotCache.invalidate(target.getId());
     }
 
     @Transactional
@@ -197,11 +203,10 @@ public class WorkspaceUserService {
         workspaceUserRepository.save(target);
     }
 
+    @CacheEvict(value = "workspaceUserProfile", key = "#workspaceId + ':' + #userId")
     @Transactional
     public void leaveWorkspace(Long workspaceId, Long userId) {
-        WorkspaceUser workspaceUser = workspaceUserRepository
-                .findByWorkspaceIdAndUserIdAndDeletedAtIsNull(workspaceId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_USER_NOT_FOUND));
+        WorkspaceUser workspaceUser = membershipResolver.getWorkspaceUser(workspaceId, userId);
 
         if (workspaceUser.getRole() == WorkspaceUserRole.OWNER) {
             throw new BusinessException(ErrorCode.OWNER_CANNOT_LEAVE);
@@ -209,6 +214,7 @@ public class WorkspaceUserService {
 
         workspaceUser.setDeletedAt(Instant.now());
         workspaceUserRepository.save(workspaceUser);
+        workspaceUserSnapshotCache.invalidate(workspaceUser.getId());
     }
 
     @Transactional(readOnly = true)
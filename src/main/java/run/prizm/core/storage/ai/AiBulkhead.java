@@ -0,0 +1,125 @@
+package run.prizm.core.storage.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * AI 엔드포인트별 동시 호출 제한 (bulkhead)
+ * 스레드를 점유하지 않고 한도까지만 구독하며, 나머지는 대기열에 두었다가 앞선 호출이 끝나면 시작한다.
+ * 대기열이 가득 차면 AI_SERVICE_BUSY 로 바로 실패시킨다.
+ * prizm.ai.inflight{endpoint}, prizm.ai.queued{endpoint}
+ */
+class AiBulkhead {
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final Counter rejected;
+
+    AiBulkhead(String endpoint, int maxInFlight, int maxQueued, Counter rejected, MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.rejected = rejected;
+        Gauge.builder("prizm.ai.inflight", inFlight, AtomicInteger::get)
+             .tag("endpoint", endpoint)
+             .register(meterRegistry);
+        Gauge.builder("prizm.ai.queued", queued, AtomicInteger::get)
+             .tag("endpoint", endpoint)
+             .register(meterRegistry);
+    }
+
+    <T> Mono<T> submit(Supplier<Mono<T>> task) {
+        return submitMany(() -> Mono.defer(task)
+                                    .flux())
+                .singleOrEmpty();
+    }
+
+    /**
+     * 스트리밍 호출용, 스트림이 끝날 때까지 자리를 차지한다
+     */
+    <T> Flux<T> submitMany(Supplier<Flux<T>> task) {
+        return Flux.create(sink -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            AtomicReference<Disposable> subscription = new AtomicReference<>();
+            // 기다리던 쪽이 취소하면 대기 중이면 건너뛰고, 진행 중이면 호출을 취소해 자리를 돌려준다
+            sink.onCancel(() -> {
+                cancelled.set(true);
+                Disposable running = subscription.get();
+                if (running != null) {
+                    running.dispose();
+                }
+            });
+
+            Runnable start = () -> {
+                if (cancelled.get()) {
+                    release();
+                    return;
+                }
+                subscription.set(Flux.defer(task)
+                                     .doFinally(signal -> release())
+                                     .subscribe(sink::next, sink::error, sink::complete));
+                if (cancelled.get()) {
+                    subscription.get()
+                                .dispose();
+                }
+            };
+            if (tryAcquire()) {
+                start.run();
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                rejected.increment();
+                sink.error(new BusinessException(ErrorCode.AI_SERVICE_BUSY));
+                return;
+            }
+            waiting.add(start);
+            // 대기열에 넣는 사이 자리가 났을 수 있다
+            drain();
+        });
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty() && tryAcquire()) {
+            Runnable next = waiting.poll();
+            if (next == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            next.run();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package run.prizm.core.storage.ai;
+
+import java.time.Duration;
+
+/**
+ * AI 엔드포인트별 서킷 브레이커
+ * 연속 실패가 임계치에 도달하면 openDuration 동안 호출을 바로 거절하고,
+ * 이후 시험 호출 하나만 통과시켜 성공하면 닫고 실패하면 다시 연다.
+ */
+class AiCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    AiCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+    }
+
+    /**
+     * 대기열에 넣기 전 빠른 확인 (상태를 바꾸지 않음)
+     */
+    synchronized boolean isCallPermitted() {
+        return state != State.OPEN || System.currentTimeMillis() - openedAt >= openMillis;
+    }
+
+    /**
+     * 호출 직전 확인, HALF_OPEN 에서는 시험 호출 하나만 허용
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            failures = 0;
+        }
+        trialInFlight = false;
+    }
+
+    /**
+     * 취소나 4xx 처럼 AI 서비스 상태와 무관한 결과
+     */
+    synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
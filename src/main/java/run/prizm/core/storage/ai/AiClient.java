@@ -0,0 +1,190 @@
+package run.prizm.core.storage.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.properties.AiClientProperties;
+import run.prizm.core.properties.UrlProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * AI 서비스 공용 클라이언트
+ * 모든 엔드포인트가 하나의 커넥션 풀을 공유하고, 엔드포인트마다 bulkhead / 제한 시간 / 서킷 브레이커를 따로 둔다.
+ * 느린 문서 분석이 한도를 채워도 번역은 자기 몫의 동시 호출 수로 계속 진행된다.
+ * 풀: reactor.netty.connection.provider.*{name=ai}, 호출: prizm.ai.requests{endpoint, outcome},
+ * 거절: prizm.ai.rejected{endpoint, reason}, 서킷: prizm.ai.circuit.state{endpoint} (0 닫힘, 1 열림, 2 시험 중)
+ */
+@Component
+public class AiClient {
+
+    private static final String POOL_NAME = "ai";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SERVER_SENT_EVENT =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final Map<AiEndpoint, Policy> policies = new EnumMap<>(AiEndpoint.class);
+
+    public AiClient(WebClient.Builder webClientBuilder, UrlProperties urlProperties, AiClientProperties properties,
+                    MeterRegistry meterRegistry) {
+        AiClientProperties.Pool pool = properties.getPool();
+        this.connectionProvider = ConnectionProvider.builder(POOL_NAME)
+                                                    .maxConnections(pool.getMaxConnections())
+                                                    .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                                                    .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                                                    .maxIdleTime(pool.getMaxIdleTime())
+                                                    .evictInBackground(pool.getMaxIdleTime())
+                                                    .metrics(true)
+                                                    .build();
+        // 응답 제한 시간은 엔드포인트마다 다르므로 호출 단위로 건다
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                                                  (int) pool.getConnectTimeout()
+                                                            .toMillis());
+        this.webClient = webClientBuilder.clone()
+                                         .clientConnector(new ReactorClientHttpConnector(httpClient))
+                                         .baseUrl(urlProperties.getServiceAiUrl())
+                                         .build();
+        this.meterRegistry = meterRegistry;
+
+        for (AiEndpoint endpoint : AiEndpoint.values()) {
+            policies.put(endpoint, new Policy(endpoint.getKey(), properties.endpoint(endpoint.getKey()), meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        connectionProvider.dispose();
+    }
+
+    public <T> Mono<T> post(AiEndpoint endpoint, String uri, Object body, Class<T> responseType) {
+        return execute(endpoint, client -> client.post()
+                                                 .uri(uri)
+                                                 .bodyValue(body)
+                                                 .retrieve()
+                                                 .bodyToMono(responseType)
+                                                 .flux())
+                .singleOrEmpty();
+    }
+
+    public <T> Mono<T> delete(AiEndpoint endpoint, String uri, Class<T> responseType) {
+        return execute(endpoint, client -> client.delete()
+                                                 .uri(uri)
+                                                 .retrieve()
+                                                 .bodyToMono(responseType)
+                                                 .flux())
+                .singleOrEmpty();
+    }
+
+    /**
+     * SSE 스트리밍 호출, 제한 시간은 이벤트 사이 간격에 적용되고 스트림이 끝날 때까지 bulkhead 자리를 차지한다
+     */
+    public Flux<ServerSentEvent<String>> stream(AiEndpoint endpoint, String uri, Object body) {
+        return execute(endpoint, client -> client.post()
+                                                 .uri(uri)
+                                                 .accept(MediaType.TEXT_EVENT_STREAM)
+                                                 .bodyValue(body)
+                                                 .retrieve()
+                                                 .bodyToFlux(SERVER_SENT_EVENT));
+    }
+
+    private <T> Flux<T> execute(AiEndpoint endpoint, Function<WebClient, Flux<T>> request) {
+        Policy policy = policies.get(endpoint);
+        return Flux.defer(() -> {
+            if (!policy.circuitBreaker.isCallPermitted()) {
+                policy.circuitRejected.increment();
+                return Flux.error(new BusinessException(ErrorCode.AI_SERVICE_UNAVAILABLE));
+            }
+            return policy.bulkhead.submitMany(() -> call(endpoint, policy, request));
+        });
+    }
+
+    private <T> Flux<T> call(AiEndpoint endpoint, Policy policy, Function<WebClient, Flux<T>> request) {
+        // 대기하는 사이 서킷이 열렸을 수 있다
+        if (!policy.circuitBreaker.tryAcquire()) {
+            policy.circuitRejected.increment();
+            return Flux.error(new BusinessException(ErrorCode.AI_SERVICE_UNAVAILABLE));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return request.apply(webClient)
+                      .timeout(policy.timeout)
+                      .doOnComplete(() -> {
+                          policy.circuitBreaker.onSuccess();
+                          sample.stop(timer(endpoint, "success"));
+                      })
+                      .doOnError(error -> {
+                          if (isServiceFailure(error)) {
+                              policy.circuitBreaker.onFailure();
+                          } else {
+                              policy.circuitBreaker.onIgnored();
+                          }
+                          sample.stop(timer(endpoint, error instanceof TimeoutException ? "timeout" : "error"));
+                      })
+                      .doOnCancel(policy.circuitBreaker::onIgnored);
+    }
+
+    // 4xx 는 요청 자체의 문제이므로 서킷에 반영하지 않는다
+    private boolean isServiceFailure(Throwable error) {
+        return !(error instanceof WebClientResponseException response) || response.getStatusCode()
+                                                                                  .is5xxServerError();
+    }
+
+    private Timer timer(AiEndpoint endpoint, String outcome) {
+        return Timer.builder("prizm.ai.requests")
+                    .tag("endpoint", endpoint.getKey())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+    }
+
+    private static class Policy {
+
+        private final AiBulkhead bulkhead;
+        private final AiCircuitBreaker circuitBreaker;
+        private final Duration timeout;
+        private final Counter circuitRejected;
+
+        Policy(String endpoint, AiClientProperties.Endpoint spec, MeterRegistry meterRegistry) {
+            this.bulkhead = new AiBulkhead(endpoint, spec.getMaxConcurrent(), spec.getMaxQueued(),
+                    rejected(endpoint, "bulkhead", meterRegistry), meterRegistry);
+            this.circuitBreaker = new AiCircuitBreaker(spec.getFailureThreshold(), spec.getOpenDuration());
+            this.timeout = spec.getTimeout();
+            this.circuitRejected = rejected(endpoint, "circuit", meterRegistry);
+            Gauge.builder("prizm.ai.circuit.state", circuitBreaker, breaker -> breaker.getState()
+                                                                                       .ordinal())
+                 .tag("endpoint", endpoint)
+                 .register(meterRegistry);
+        }
+
+        private static Counter rejected(String endpoint, String reason, MeterRegistry meterRegistry) {
+            return Counter.builder("prizm.ai.rejected")
+                          .tag("endpoint", endpoint)
+                          .tag("reason", reason)
+                          .register(meterRegistry);
+        }
+    }
+}
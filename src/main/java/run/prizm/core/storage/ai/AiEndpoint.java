@@ -0,0 +1,22 @@
+package run.prizm.core.storage.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 서비스 엔드포인트 구분 (bulkhead / 서킷 브레이커 / 메트릭 단위)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AiEndpoint {
+    TRANSLATE("translate"),
+    // 자동 번역 채널의 백그라운드 번역 (사용자 요청 번역과 한도를 나눠 쓰지 않음)
+    TRANSLATE_BACKGROUND("translate-background"),
+    CHAT("chat"),
+    CHAT_TITLE("chat-title"),
+    ANALYZE("analyze"),
+    RAG("rag");
+
+    // 설정 키이자 메트릭 태그
+    private final String key;
+}
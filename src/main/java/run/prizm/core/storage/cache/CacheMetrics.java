@@ -0,0 +1,68 @@
+package run.prizm.core.storage.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시 이름별 적중/미스/제거 통계
+ * prizm.cache.requests{cache, result, tier}, prizm.cache.evictions{cache, scope}, prizm.cache.local.size{cache}
+ */
+public class CacheMetrics {
+
+    private static final String REQUESTS = "prizm.cache.requests";
+    private static final String EVICTIONS = "prizm.cache.evictions";
+    private static final String LOCAL_SIZE = "prizm.cache.local.size";
+
+    private final MeterRegistry meterRegistry;
+    private final String cacheName;
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+
+    public CacheMetrics(MeterRegistry meterRegistry, String cacheName) {
+        this.meterRegistry = meterRegistry;
+        this.cacheName = cacheName;
+        this.localHits = request("hit", "local");
+        this.remoteHits = request("hit", "remote");
+        this.misses = request("miss", "remote");
+    }
+
+    public void localHit() {
+        localHits.increment();
+    }
+
+    public void remoteHit() {
+        remoteHits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    /**
+     * 제거 사유별 카운터 (size, expired, invalidation 등)
+     */
+    public Counter evictions(String scope) {
+        return Counter.builder(EVICTIONS)
+                      .tag("cache", cacheName)
+                      .tag("scope", scope)
+                      .register(meterRegistry);
+    }
+
+    public void localSize(Supplier<Number> size) {
+        Gauge.builder(LOCAL_SIZE, size)
+             .tag("cache", cacheName)
+             .register(meterRegistry);
+    }
+
+    private Counter request(String result, String tier) {
+        return Counter.builder(REQUESTS)
+                      .tag("cache", cacheName)
+                      .tag("result", result)
+                      .tag("tier", tier)
+                      .register(meterRegistry);
+    }
+}
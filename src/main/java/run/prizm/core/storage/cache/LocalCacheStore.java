@@ -0,0 +1,68 @@
+package run.prizm.core.storage.cache;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기/TTL 제한이 있는 노드 메모리 캐시 (LRU)
+ * 만료된 엔트리는 조회 시점에 제거한다.
+ */
+public class LocalCacheStore<K, V> {
+
+    private final long ttlMillis;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Map<K, Entry<V>> entries;
+
+    public LocalCacheStore(int maxSize, Duration ttl, CacheMetrics metrics) {
+        this.ttlMillis = ttl.toMillis();
+        this.sizeEvictions = metrics.evictions("size");
+        this.expiredEvictions = metrics.evictions("expired");
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        metrics.localSize(this::size);
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            expiredEvictions.increment();
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized boolean remove(K key) {
+        return entries.remove(key) != null;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
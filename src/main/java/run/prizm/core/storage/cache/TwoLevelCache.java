@@ -0,0 +1,165 @@
+package run.prizm.core.storage.cache;
+
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1 (노드 메모리) + L2 (Redis) 캐시
+ * 쓰기/삭제는 L2 에 먼저 반영한 뒤 pub/sub 으로 다른 노드의 L1 을 무효화한다.
+ * 무효화 메시지는 "{origin}:{key}" 형식이며 key 가 "*" 이면 전체 삭제이다. 자기 노드가 보낸 메시지는 무시한다.
+ * L2 조회/저장 실패 시에는 캐시 미스로 처리한다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+    private static final String CLEAR_ALL = "*";
+
+    private final String name;
+    private final Cache remote;
+    private final LocalCacheStore<String, ValueWrapper> local;
+    private final CacheInvalidationBus invalidationBus;
+    private final String origin;
+    private final CacheMetrics metrics;
+    private final Counter invalidations;
+
+    public TwoLevelCache(String name, Cache remote, LocalCacheStore<String, ValueWrapper> local,
+                         CacheInvalidationBus invalidationBus, String origin, CacheMetrics metrics) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.invalidationBus = invalidationBus;
+        this.origin = origin;
+        this.metrics = metrics;
+        this.invalidations = metrics.evictions("invalidation");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = String.valueOf(key);
+        ValueWrapper wrapper = local.get(localKey);
+        if (wrapper != null) {
+            metrics.localHit();
+            return wrapper;
+        }
+
+        try {
+            wrapper = remote.get(key);
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache lookup failed, treating as miss: cache={}, key={}", name, key, e);
+            wrapper = null;
+        }
+        if (wrapper == null) {
+            metrics.miss();
+            return null;
+        }
+
+        metrics.remoteHit();
+        local.put(localKey, new SimpleValueWrapper(wrapper.get()));
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache put failed: cache={}, key={}", name, key, e);
+        }
+        local.put(String.valueOf(key), new SimpleValueWrapper(value));
+        publish(String.valueOf(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache evict failed: cache={}, key={}", name, key, e);
+        }
+        if (local.remove(String.valueOf(key))) {
+            invalidations.increment();
+        }
+        publish(String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            logger.warn("Remote cache clear failed: cache={}", name, e);
+        }
+        local.clear();
+        publish(CLEAR_ALL);
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지 처리
+     */
+    void onInvalidation(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0 || message.substring(0, separator).equals(origin)) {
+            return;
+        }
+
+        String key = message.substring(separator + 1);
+        if (CLEAR_ALL.equals(key)) {
+            local.clear();
+        } else if (local.remove(key)) {
+            invalidations.increment();
+        }
+    }
+
+    private void publish(String key) {
+        try {
+            invalidationBus.publish(name, origin + ":" + key);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish cache invalidation: cache={}, key={}", name, key, e);
+        }
+    }
+}
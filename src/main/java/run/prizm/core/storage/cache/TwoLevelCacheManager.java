@@ -0,0 +1,60 @@
+package run.prizm.core.storage.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import run.prizm.core.properties.CacheProperties;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * RedisCacheManager 앞에 노드 메모리 L1 을 두는 CacheManager
+ * 캐시 이름별 정책은 prizm.cache.specs 로 지정하며, local-max-size 가 0 이면 Redis 만 사용한다.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheProperties cacheProperties;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    // 자기 노드가 보낸 무효화 메시지를 구분하기 위한 식별자
+    private final String origin = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, CacheProperties cacheProperties,
+                                CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.cacheProperties = cacheProperties;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 캐시는 처음 사용될 때 만든다 (prizm.cache.specs 에는 직접 구현한 캐시의 정책도 있다)
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private Cache createCache(String name) {
+        Cache remote = redisCacheManager.getCache(name);
+        CacheProperties.Spec spec = cacheProperties.spec(name);
+        if (spec.getLocalMaxSize() <= 0) {
+            return remote;
+        }
+
+        CacheMetrics metrics = new CacheMetrics(meterRegistry, name);
+        TwoLevelCache cache = new TwoLevelCache(name, remote,
+                new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(), metrics),
+                invalidationBus, origin, metrics);
+        invalidationBus.subscribe(name, cache::onInvalidation);
+        return cache;
+    }
+}
@@ -0,0 +1,124 @@
+package run.prizm.core.storage.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * AI 어시스턴트 답변 캐시
+ * 키에 워크스페이스 RAG 코퍼스 세대를 포함하므로, 코퍼스가 바뀌면 세대 키 INCR 한 번으로 이전 답변은 조회되지 않는다.
+ * 세대별 인덱스(ZSET, 점수 = 마지막 사용 시각)로 워크스페이스당 답변 수를 제한한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssistantAnswerCacheRepository {
+
+    private static final String KEY_PREFIX = "ai:answer:";
+    private static final String INDEX_PREFIX = "ai:answer:index:";
+    private static final String GENERATION_PREFIX = "ai:answer:gen:";
+    // 세대 키는 엔트리보다 오래 살아야 만료 후 세대 번호가 재사용되어도 이전 엔트리가 살아나지 않는다
+    private static final Duration GENERATION_GRACE = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public long findGeneration(Long workspaceId) {
+        String value = redisTemplate.opsForValue()
+                                    .get(buildGenerationKey(workspaceId));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    public Map<String, Object> find(Long workspaceId, long generation, String hash) {
+        try {
+            String json = redisTemplate.opsForValue()
+                                       .get(buildKey(workspaceId, generation, hash));
+            if (json == null) {
+                return null;
+            }
+            // 적중한 답변은 크기 제한에서 가장 늦게 지워지도록 사용 시각 갱신
+            redisTemplate.opsForZSet()
+                         .add(buildIndexKey(workspaceId, generation), hash, System.currentTimeMillis());
+            return objectMapper.readValue(json, new TypeReference<>() {
+            });
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 답변 저장 후 워크스페이스 한도를 넘은 만큼 오래된 답변을 지우고, 지운 개수를 반환한다
+     */
+    public int save(Long workspaceId, long generation, String hash, Map<String, Object> answer, Duration ttl,
+                    int maxEntries) {
+        try {
+            String key = buildKey(workspaceId, generation, hash);
+            String indexKey = buildIndexKey(workspaceId, generation);
+            String json = objectMapper.writeValueAsString(answer);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForValue().set(key, json, ttl);
+                    operations.opsForZSet().add(indexKey, hash, System.currentTimeMillis());
+                    operations.expire(indexKey, ttl);
+                    operations.expire(buildGenerationKey(workspaceId), ttl.plus(GENERATION_GRACE));
+                    return null;
+                }
+            });
+            return trim(workspaceId, generation, indexKey, maxEntries);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 세대를 올려 이전 답변을 조회되지 않게 한다, 세대 키 만료는 save 와 같이 엔트리 TTL + 유예 시간
+     */
+    public void invalidateWorkspace(Long workspaceId, Duration ttl) {
+        String generationKey = buildGenerationKey(workspaceId);
+        redisTemplate.opsForValue().increment(generationKey);
+        redisTemplate.expire(generationKey, ttl.plus(GENERATION_GRACE));
+    }
+
+    private int trim(Long workspaceId, long generation, String indexKey, int maxEntries) {
+        Long size = redisTemplate.opsForZSet()
+                                 .zCard(indexKey);
+        if (size == null || size <= maxEntries) {
+            return 0;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> evicted = redisTemplate.opsForZSet()
+                                                                      .popMin(indexKey, size - maxEntries);
+        if (evicted == null || evicted.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.delete(evicted.stream()
+                                    .map(tuple -> buildKey(workspaceId, generation, tuple.getValue()))
+                                    .toList());
+        return evicted.size();
+    }
+
+    private String buildKey(Long workspaceId, long generation, String hash) {
+        return KEY_PREFIX + workspaceId + ":" + generation + ":" + hash;
+    }
+
+    private String buildIndexKey(Long workspaceId, long generation) {
+        return INDEX_PREFIX + workspaceId + ":" + generation;
+    }
+
+    private String buildGenerationKey(Long workspaceId) {
+        return GENERATION_PREFIX + workspaceId;
+    }
+}
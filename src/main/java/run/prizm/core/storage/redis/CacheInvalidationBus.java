@@ -0,0 +1,35 @@
+package run.prizm.core.storage.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 in-process 캐시 무효화를 위한 Redis pub/sub
+ * 캐시 이름마다 별도 토픽을 사용하며 메시지 본문은 무효화할 key 이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus {
+
+    private static final String TOPIC_PREFIX = "cache:invalidate:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public void publish(String cacheName, String key) {
+        stringRedisTemplate.convertAndSend(TOPIC_PREFIX + cacheName, key);
+    }
+
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TOPIC_PREFIX + cacheName)
+        );
+    }
+}
@@ -2,37 +2,67 @@ package run.prizm.core.storage.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Repository;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 
 import java.time.Duration;
+import java.util.List;
 
+/**
+ * 채널 접근 목록 캐시
+ * 키에 워크스페이스 세대와 유저 세대를 포함하므로, 무효화는 세대 키 INCR 한 번으로 끝나고
+ * 이전 세대 엔트리는 조회되지 않은 채 TTL 로 만료된다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class ChannelAccessCacheRepository {
 
     private static final String KEY_PREFIX = "channel:access:";
+    private static final String GENERATION_PREFIX = "channel:access:gen:";
     private static final Duration TTL = Duration.ofHours(1);
+    // 세대 키는 엔트리보다 오래 살아야 만료 후 세대 번호가 재사용되어도 이전 엔트리가 살아나지 않는다
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
 
-    public void save(Long workspaceId, Long userId, Object data) {
+    /**
+     * 현재 세대 조회 (워크스페이스 세대, 유저 세대를 MGET 한 번으로)
+     */
+    public Generation findGeneration(Long workspaceId, Long userId) {
+        List<String> values = redisTemplate.opsForValue()
+                                           .multiGet(List.of(buildGenerationKey(workspaceId),
+                                                   buildGenerationKey(workspaceId, userId)));
+        return new Generation(parse(values, 0), parse(values, 1));
+    }
+
+    public void save(Long workspaceId, Long userId, Generation generation, Object data) {
         try {
-            String key = buildKey(workspaceId, userId);
+            String key = buildKey(workspaceId, userId, generation);
             String json = objectMapper.writeValueAsString(data);
-            redisTemplate.opsForValue().set(key, json, TTL);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForValue().set(key, json, TTL);
+                    operations.expire(buildGenerationKey(workspaceId), GENERATION_TTL);
+                    operations.expire(buildGenerationKey(workspaceId, userId), GENERATION_TTL);
+                    return null;
+                }
+            });
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
         }
     }
 
-    public <T> T find(Long workspaceId, Long userId, Class<T> clazz) {
+    public <T> T find(Long workspaceId, Long userId, Generation generation, Class<T> clazz) {
         try {
-            String key = buildKey(workspaceId, userId);
-            String json = redisTemplate.opsForValue().get(key);
+            String json = redisTemplate.opsForValue().get(buildKey(workspaceId, userId, generation));
             return json != null ? objectMapper.readValue(json, clazz) : null;
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
@@ -40,15 +70,37 @@ public class ChannelAccessCacheRepository {
     }
 
     public void invalidate(Long workspaceId, Long userId) {
-        redisTemplate.delete(buildKey(workspaceId, userId));
+        increment(buildGenerationKey(workspaceId, userId));
     }
 
     public void invalidateWorkspace(Long workspaceId) {
-        String pattern = KEY_PREFIX + workspaceId + ":*";
-        redisTemplate.keys(pattern).forEach(redisTemplate::delete);
+        increment(buildGenerationKey(workspaceId));
+    }
+
+    private void increment(String generationKey) {
+        redisTemplate.opsForValue().increment(generationKey);
+        redisTemplate.expire(generationKey, GENERATION_TTL);
+    }
+
+    private long parse(List<String> values, int index) {
+        if (values == null || values.get(index) == null) {
+            return 0L;
+        }
+        return Long.parseLong(values.get(index));
+    }
+
+    private String buildKey(Long workspaceId, Long userId, Generation generation) {
+        return KEY_PREFIX + workspaceId + ":" + generation.workspace() + ":" + userId + ":" + generation.user();
+    }
+
+    private String buildGenerationKey(Long workspaceId) {
+        return GENERATION_PREFIX + workspaceId;
+    }
+
+    private String buildGenerationKey(Long workspaceId, Long userId) {
+        return GENERATION_PREFIX + workspaceId + ":" + userId;
     }
 
-    private String buildKey(Long workspaceId, Long userId) {
-        return KEY_PREFIX + workspaceId + ":" + userId;
+    public record Generation(long workspace, long user) {
     }
 }
@@ -0,0 +1,63 @@
+package run.prizm.core.storage.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 문서 분석 작업 상태와 처리 잠금
+ * 상태는 messageId 당 하나로, 진행 중인 작업이 있으면 같은 메시지의 분석 요청을 다시 큐에 넣지 않는다.
+ * 잠금은 소유자 토큰이 일치할 때만 해제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentAnalysisJobRepository {
+
+    private static final String STATUS_PREFIX = "analysis:job:";
+    private static final String LOCK_PREFIX = "analysis:job:lock:";
+    // 상태가 없거나 종료 상태(COMPLETED / FAILED)일 때만 QUEUED 로 바꾸고, 아니면 현재 상태를 반환
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local status = redis.call('get', KEYS[1]) " +
+            "if status and status ~= 'COMPLETED' and status ~= 'FAILED' then return status end " +
+            "redis.call('set', KEYS[1], 'QUEUED', 'PX', ARGV[1]) " +
+            "return false",
+            String.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 새 작업으로 등록하고 null 을 반환, 이미 진행 중이면 그 상태를 반환
+     */
+    public String claim(Long messageId, Duration ttl) {
+        return stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(STATUS_PREFIX + messageId),
+                String.valueOf(ttl.toMillis()));
+    }
+
+    public String findStatus(Long messageId) {
+        return stringRedisTemplate.opsForValue()
+                                  .get(STATUS_PREFIX + messageId);
+    }
+
+    public void saveStatus(Long messageId, String status, Duration ttl) {
+        stringRedisTemplate.opsForValue()
+                           .set(STATUS_PREFIX + messageId, status, ttl);
+    }
+
+    public boolean tryLock(Long messageId, String owner, Duration lease) {
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                                              .setIfAbsent(LOCK_PREFIX + messageId, owner, lease);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    public void unlock(Long messageId, String owner) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + messageId), owner);
+    }
+}
@@ -0,0 +1,123 @@
+package run.prizm.core.storage.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.message.cache.MessageRingSnapshot;
+import run.prizm.core.message.dto.MessageResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채널별 최근 메시지 링 (Redis Hash)
+ * message:ring:{channelId} -> { m:{messageId}: json, seeded: 1, complete: 0|1 }
+ * 메시지 id 는 64bit 라 sorted set score(double)로 정렬할 수 없으므로 읽을 때 정렬한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageRingCacheRepository {
+
+    private static final String KEY_PREFIX = "message:ring:";
+    private static final String MESSAGE_FIELD_PREFIX = "m:";
+    private static final String SEEDED_FIELD = "seeded";
+    private static final String COMPLETE_FIELD = "complete";
+    private static final Duration TTL = Duration.ofHours(6);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 메시지 저장 후 해시 필드 수 반환 (메시지 + seeded/complete 상태 필드)
+     */
+    public long put(MessageResponse message) {
+        String key = buildKey(message.getChannelId());
+        try {
+            hashOperations().put(key, messageField(message.getId()), objectMapper.writeValueAsString(message));
+            redisTemplate.expire(key, TTL);
+            return hashOperations().size(key);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
+        }
+    }
+
+    public void seed(Long channelId, List<MessageResponse> messages, boolean complete) {
+        String key = buildKey(channelId);
+        try {
+            for (MessageResponse message : messages) {
+                hashOperations().putIfAbsent(key, messageField(message.getId()), objectMapper.writeValueAsString(message));
+            }
+            hashOperations().putAll(key, Map.of(SEEDED_FIELD, "1", COMPLETE_FIELD, complete ? "1" : "0"));
+            redisTemplate.expire(key, TTL);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
+        }
+    }
+
+    public MessageRingSnapshot find(Long channelId) {
+        try {
+            Map<String, String> entries = hashOperations().entries(buildKey(channelId));
+            List<MessageResponse> messages = new ArrayList<>();
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                if (entry.getKey()
+                         .startsWith(MESSAGE_FIELD_PREFIX)) {
+                    messages.add(objectMapper.readValue(entry.getValue(), MessageResponse.class));
+                }
+            }
+            return new MessageRingSnapshot("1".equals(entries.get(SEEDED_FIELD)),
+                    "1".equals(entries.get(COMPLETE_FIELD)), messages);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 용량을 넘는 가장 오래된 메시지 제거
+     */
+    public void trim(Long channelId, int capacity) {
+        String key = buildKey(channelId);
+        List<Long> messageIds = hashOperations().keys(key)
+                                                .stream()
+                                                .filter(field -> field.startsWith(MESSAGE_FIELD_PREFIX))
+                                                .map(field -> Long.parseLong(field.substring(MESSAGE_FIELD_PREFIX.length())))
+                                                .sorted(Comparator.naturalOrder())
+                                                .toList();
+        int overflow = messageIds.size() - capacity;
+        if (overflow <= 0) {
+            return;
+        }
+        Object[] fields = messageIds.subList(0, overflow)
+                                    .stream()
+                                    .map(this::messageField)
+                                    .toArray();
+        hashOperations().delete(key, fields);
+        hashOperations().put(key, COMPLETE_FIELD, "0");
+    }
+
+    public void remove(Long channelId, Long messageId) {
+        hashOperations().delete(buildKey(channelId), messageField(messageId));
+    }
+
+    public void delete(Long channelId) {
+        redisTemplate.delete(buildKey(channelId));
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return redisTemplate.opsForHash();
+    }
+
+    private String messageField(Long messageId) {
+        return MESSAGE_FIELD_PREFIX + messageId;
+    }
+
+    private String buildKey(Long channelId) {
+        return KEY_PREFIX + channelId;
+    }
+}
@@ -0,0 +1,82 @@
+package run.prizm.core.storage.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import run.prizm.core.common.constraint.Language;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메시지 번역 L2 캐시와 번역 작업 잠금
+ * 잠금은 (messageId, language) 당 하나의 AI 호출만 클러스터에서 진행되도록 하기 위한 것이며,
+ * 소유자 토큰이 일치할 때만 해제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranslationCacheRepository {
+
+    private static final String KEY_PREFIX = "message:translation:";
+    private static final String LOCK_PREFIX = "message:translation:lock:";
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public String find(Long messageId, Language language) {
+        return stringRedisTemplate.opsForValue()
+                                  .get(buildKey(messageId, language));
+    }
+
+    /**
+     * 여러 메시지의 번역을 한 번의 MGET 으로 조회 (캐시에 있는 것만 반환)
+     */
+    public Map<Long, String> findAll(Collection<Long> messageIds, Language language) {
+        List<Long> ids = List.copyOf(messageIds);
+        List<String> values = stringRedisTemplate.opsForValue()
+                                                 .multiGet(ids.stream()
+                                                              .map(messageId -> buildKey(messageId, language))
+                                                              .toList());
+        Map<Long, String> found = new HashMap<>();
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                found.put(ids.get(i), values.get(i));
+            }
+        }
+        return found;
+    }
+
+    public void save(Long messageId, Language language, String content) {
+        stringRedisTemplate.opsForValue()
+                           .set(buildKey(messageId, language), content, TTL);
+    }
+
+    public boolean tryLock(Long messageId, Language language, String owner, Duration lease) {
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                                              .setIfAbsent(buildLockKey(messageId, language), owner, lease);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    public void unlock(Long messageId, Language language, String owner) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(buildLockKey(messageId, language)), owner);
+    }
+
+    private String buildKey(Long messageId, Language language) {
+        return KEY_PREFIX + messageId + ":" + language.name();
+    }
+
+    private String buildLockKey(Long messageId, Language language) {
+        return LOCK_PREFIX + messageId + ":" + language.name();
+    }
+}
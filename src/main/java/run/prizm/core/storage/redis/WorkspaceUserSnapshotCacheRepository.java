@@ -0,0 +1,48 @@
+package run.prizm.core.storage.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshot;
+
+import java.time.Duration;
+
+@Repository
+@RequiredArgsConstructor
+public class WorkspaceUserSnapshotCacheRepository {
+
+    private static final String KEY_PREFIX = "workspace:user:snapshot:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void save(WorkspaceUserSnapshot snapshot) {
+        try {
+            String json = objectMapper.writeValueAsString(snapshot);
+            redisTemplate.opsForValue().set(buildKey(snapshot.id()), json, TTL);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
+        }
+    }
+
+    public WorkspaceUserSnapshot find(Long workspaceUserId) {
+        try {
+            String json = redisTemplate.opsForValue().get(buildKey(workspaceUserId));
+            return json != null ? objectMapper.readValue(json, WorkspaceUserSnapshot.class) : null;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.CACHE_OPERATION_FAILED, e.getMessage());
+        }
+    }
+
+    public void delete(Long workspaceUserId) {
+        redisTemplate.delete(buildKey(workspaceUserId));
+    }
+
+    private String buildKey(Long workspaceUserId) {
+        return KEY_PREFIX + workspaceUserId;
+    }
+}
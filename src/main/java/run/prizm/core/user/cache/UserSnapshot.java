@@ -0,0 +1,21 @@
+package run.prizm.core.user.cache;
+
+import run.prizm.core.common.constraint.Language;
+import run.prizm.core.user.constraint.UserAuthProvider;
+
+import java.time.Instant;
+
+/**
+ * 인증된 요청에서 필요한 유저 정보 스냅샷
+ * 탈퇴한 유저는 조회되지 않으므로 스냅샷이 있으면 활성 유저이다.
+ */
+public record UserSnapshot(
+        Long id,
+        String name,
+        String email,
+        UserAuthProvider authProvider,
+        Language language,
+        String imagePath,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,87 @@
+package run.prizm.core.user.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.properties.CacheProperties;
+import run.prizm.core.storage.cache.CacheMetrics;
+import run.prizm.core.storage.cache.LocalCacheStore;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+import run.prizm.core.user.repository.UserRepository;
+
+/**
+ * 유저 스냅샷 in-process 캐시
+ * 프로필/언어 변경, 탈퇴 시 커밋 이후 Redis pub/sub 으로 모든 노드에서 무효화한다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSnapshotCache.class);
+    private static final String CACHE_NAME = "userSnapshot";
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheMetrics metrics;
+    private final LocalCacheStore<Long, UserSnapshot> snapshots;
+
+    public UserSnapshotCache(UserRepository userRepository, CacheInvalidationBus invalidationBus,
+                             CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CacheProperties.Spec spec = cacheProperties.spec(CACHE_NAME);
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.metrics = new CacheMetrics(meterRegistry, CACHE_NAME);
+        this.snapshots = new LocalCacheStore<>(spec.getLocalMaxSize(), spec.getLocalTtl(), metrics);
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        invalidationBus.subscribe(CACHE_NAME, key -> snapshots.remove(Long.parseLong(key)));
+    }
+
+    public UserSnapshot get(Long userId) {
+        UserSnapshot snapshot = snapshots.get(userId);
+        if (snapshot != null) {
+            metrics.localHit();
+            return snapshot;
+        }
+
+        metrics.miss();
+        snapshot = userRepository.findSnapshotById(userId)
+                                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        snapshots.put(userId, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 유저 단위 무효화 (트랜잭션 중이면 커밋 이후 수행)
+     */
+    public void invalidate(Long userId) {
+        runAfterCommit(() -> {
+            snapshots.remove(userId);
+            try {
+                invalidationBus.publish(CACHE_NAME, String.valueOf(userId));
+            } catch (Exception e) {
+                logger.warn("Failed to publish user snapshot invalidation: userId={}", userId, e);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
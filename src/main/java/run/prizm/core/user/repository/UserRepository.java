@@ -1,6 +1,9 @@
 package run.prizm.core.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import run.prizm.core.user.cache.UserSnapshot;
 import run.prizm.core.user.constraint.UserAuthProvider;
 import run.prizm.core.user.entity.User;
 
@@ -11,4 +14,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByAuthProviderAndOpenidSub(UserAuthProvider userAuthProvider, String openidSub);
 
     Optional<User> findByAuthProviderAndOpenidSubAndDeletedAtIsNull(UserAuthProvider userAuthProvider, String openidSub);
+
+    @Query("SELECT new run.prizm.core.user.cache.UserSnapshot(" +
+            "u.id, u.name, u.email, u.authProvider, u.language, i.path, u.createdAt) " +
+            "FROM User u " +
+            "LEFT JOIN u.image i " +
+            "WHERE u.id = :id " +
+            "AND u.deletedAt IS NULL")
+    Optional<UserSnapshot> findSnapshotById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -13,13 +13,21 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.security.permission.WorkspaceMembership;
+import run.prizm.core.security.permission.WorkspaceMembershipResolver;
+import run.prizm.core.user.cache.UserSnapshot;
+import run.prizm.core.user.cache.UserSnapshotCache;
 import run.prizm.core.user.repository.UserRepository;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class CurrentUserResolver implements HandlerMethodArgumentResolver {
 
     private final UserRepository userRepository;
+    private final WorkspaceMembershipResolver membershipResolver;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -55,6 +63,19 @@ public class CurrentUserResolver implements HandlerMethodArgumentResolver {
             return userId;
         }
 
+        if (parameterType.equals(UserSnapshot.class)) {
+            return userSnapshotCache.get(userId);
+        }
+
+        // 같은 요청에서 확인된 멤버십이 있으면 그 User 를 사용한다
+        Optional<WorkspaceMembership> membership = membershipResolver.current()
+                                                                     .filter(current -> current.getUserId()
+                                                                                               .equals(userId));
+        if (membership.isPresent()) {
+            return membership.get()
+                             .getUser();
+        }
+
         return userRepository.findById(userId)
                              .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
@@ -1,6 +1,8 @@
 package run.prizm.core.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import run.prizm.core.common.constant.FileDirectory;
@@ -8,6 +10,10 @@ import run.prizm.core.common.exception.BusinessException;
 import run.prizm.core.common.exception.ErrorCode;
 import run.prizm.core.common.util.ImageUploadHelper;
 import run.prizm.core.file.entity.File;
+import run.prizm.core.space.workspace.cache.WorkspaceUserSnapshotCache;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+import run.prizm.core.user.cache.UserSnapshot;
+import run.prizm.core.user.cache.UserSnapshotCache;
 import run.prizm.core.user.dto.*;
 import run.prizm.core.user.entity.User;
 import run.prizm.core.user.repository.UserRepository;
@@ -16,23 +22,25 @@ import run.prizm.core.user.repository.UserRepository;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final String WORKSPACE_USER_PROFILE_CACHE = "workspaceUserProfile";
+
     private final UserRepository userRepository;
+    private final WorkspaceUserRepository workspaceUserRepository;
+    private final CacheManager cacheManager;
     private final ImageUploadHelper imageUploadHelper;
+    private final WorkspaceUserSnapshotCache workspaceUserSnapshotCache;
+    private final UserSnapshotCache userSnapshotCache;
 
-    @Transactional(readOnly = true)
     public UserProfileResponse getProfile(Long userId) {
-        User user = userRepository.findById(userId)
-                                  .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        String profileImage = imageUploadHelper.getImageUrl(user.getImage());
+        UserSnapshot snapshot = userSnapshotCache.get(userId);
 
         return new UserProfileResponse(
-                profileImage,
-                user.getName(),
-                user.getEmail(),
-                user.getAuthProvider(),
-                user.getLanguage(),
-                user.getCreatedAt()
+                imageUploadHelper.getImageUrl(snapshot.imagePath()),
+                snapshot.name(),
+                snapshot.email(),
+                snapshot.authProvider(),
+                snapshot.language(),
+                snapshot.createdAt()
         );
     }
 
@@ -49,14 +57,17 @@ public class UserService {
 
             File newImage = imageUploadHelper.uploadImage(request.profileImage(), FileDirectory.USER_PROFILES.getPath());
             user.setImage(newImage);
+            evictWorkspaceUserProfiles(userId);
         }
 
         if (request.name() != null) {
             user.setName(request.name());
+            invalidateWorkspaceProfiles(userId);
         }
 
         userRepository.save(user);
-        return getProfile(userId);
+        userSnapshotCache.invalidate(userId);
+        return toProfileResponse(user);
     }
 
     @Transactional
@@ -66,7 +77,38 @@ public class UserService {
 
         user.setLanguage(request.language());
         userRepository.save(user);
+        userSnapshotCache.invalidate(userId);
 
-        return getProfile(userId);
+        return toProfileResponse(user);
+    }
+
+    // 변경 직후에는 캐시가 커밋 이후에 무효화되므로 엔티티로 응답을 만든다
+    private UserProfileResponse toProfileResponse(User user) {
+        return new UserProfileResponse(
+                imageUploadHelper.getImageUrl(user.getImage()),
+                user.getName(),
+                user.getEmail(),
+                user.getAuthProvider(),
+                user.getLanguage(),
+                user.getCreatedAt()
+        );
+    }
+
+    /**
+     * 전역 이름 변경 시 이를 기본값으로 쓰는 워크스페이스 프로필 캐시와 발신자 스냅샷 무효화
+     */
+    public void invalidateWorkspaceProfiles(Long userId) {
+        workspaceUserSnapshotCache.invalidateUser(userId);
+        evictWorkspaceUserProfiles(userId);
+    }
+
+    // 워크스페이스 프로필의 이름/이미지가 비어 있으면 전역 프로필 값을 사용하므로 모든 워크스페이스에서 제거
+    private void evictWorkspaceUserProfiles(Long userId) {
+        Cache cache = cacheManager.getCache(WORKSPACE_USER_PROFILE_CACHE);
+        if (cache == null) {
+            return;
+        }
+        workspaceUserRepository.findWorkspaceIdsByUserId(userId)
+                               .forEach(workspaceId -> cache.evict(workspaceId + ":" + userId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package run.prizm.core.message.codec;
+
+import org.junit.jupiter.api.Test;
+import run.prizm.core.message.constraint.MessageType;
+import run.prizm.core.message.dto.MessageResponse;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageEventBinaryCodecTest {
+
+    @Test
+    void roundTripsAllFields() {
+        MessageResponse message = MessageResponse.builder()
+                                                 .id(1_234_567_890_123L)
+                                                 .channelId(42L)
+                                                 .workspaceUserId(7L)
+                                                 .userId("1001")
+                                                 .username("prizm")
+                                                 .userAvatar("profiles/avatar.png")
+                                                 .type(MessageType.FILE)
+                                                 .content("hello")
+                                                 .edited(true)
+                                                 .pinned(true)
+                                                 .fileId(99L)
+                                                 .replyToId(-5L)
+                                                 .threadId(Long.MAX_VALUE)
+                                                 .createdAt(Instant.parse("2024-01-02T03:04:05.123456789Z"))
+                                                 .updatedAt(Instant.ofEpochSecond(-1, 1))
+                                                 .build();
+
+        assertThat(roundTrip(message)).usingRecursiveComparison()
+                                      .isEqualTo(message);
+    }
+
+    @Test
+    void keepsNullFieldsNull() {
+        MessageResponse message = MessageResponse.builder()
+                                                 .id(1L)
+                                                 .channelId(2L)
+                                                 .build();
+
+        MessageResponse decoded = roundTrip(message);
+
+        assertThat(decoded).usingRecursiveComparison()
+                           .isEqualTo(message);
+        assertThat(decoded.getWorkspaceUserId()).isNull();
+        assertThat(decoded.getContent()).isNull();
+        assertThat(decoded.getType()).isNull();
+        assertThat(decoded.getCreatedAt()).isNull();
+        assertThat(decoded.isEdited()).isFalse();
+    }
+
+    @Test
+    void roundTripsEmptyAndUnicodeStrings() {
+        MessageResponse message = MessageResponse.builder()
+                                                 .id(1L)
+                                                 .channelId(2L)
+                                                 .username("")
+                                                 .content("안녕하세요 👋🏽 مرحبا \u0000 é")
+                                                 .type(MessageType.TEXT)
+                                                 .build();
+
+        assertThat(roundTrip(message)).usingRecursiveComparison()
+                                      .isEqualTo(message);
+    }
+
+    @Test
+    void roundTripsLargeContent() {
+        String content = "가나다라마바사😀".repeat(200_000);
+        MessageResponse message = MessageResponse.builder()
+                                                 .id(1L)
+                                                 .channelId(2L)
+                                                 .type(MessageType.TEXT)
+                                                 .content(content)
+                                                 .build();
+
+        assertThat(roundTrip(message).getContent()).isEqualTo(content);
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] bytes = MessageEventBinaryCodec.encode(MessageResponse.builder()
+                                                                     .id(1L)
+                                                                     .channelId(2L)
+                                                                     .build());
+        bytes[0] = MessageEventBinaryCodec.VERSION + 1;
+
+        assertThatThrownBy(() -> MessageEventBinaryCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+    }
+
+    private static MessageResponse roundTrip(MessageResponse message) {
+        return MessageEventBinaryCodec.decode(MessageEventBinaryCodec.encode(message));
+    }
+}
@@ -0,0 +1,127 @@
+package run.prizm.core.message.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import run.prizm.core.message.cache.MessageRingCache;
+import run.prizm.core.message.dto.MessageResponse;
+import run.prizm.core.message.entity.MessageOutbox;
+import run.prizm.core.message.repository.MessageOutboxRepository;
+import run.prizm.core.properties.ChatOutboxProperties;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageOutboxRelayTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+                                                        .findAndAddModules()
+                                                        .build();
+    private final MessageOutboxRepository outboxRepository = mock(MessageOutboxRepository.class);
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final MessageRingCache messageRingCache = mock(MessageRingCache.class);
+    private final ChatOutboxProperties properties = new ChatOutboxProperties();
+    private MessageOutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties.setBatchSize(2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0)
+                                                                                  .doInTransaction(null));
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation -> invocation
+                .<RabbitOperations.OperationsCallback<Object>>getArgument(0)
+                .doInRabbit(rabbitTemplate));
+        relay = new MessageOutboxRelay(outboxRepository, rabbitTemplate, transactionTemplate, objectMapper, properties,
+                messageRingCache);
+    }
+
+    @Test
+    void publishesBatchAndDeletesConfirmedRows() throws Exception {
+        MessageOutbox entry = outbox(1L, message(10L, 100L));
+        when(outboxRepository.findBatchForUpdate(2)).thenReturn(List.of(entry));
+
+        relay.poll();
+
+        verify(rabbitTemplate).convertAndSend(eq("chat.exchange"), eq("room.100"), any(MessageResponse.class));
+        verify(rabbitTemplate).waitForConfirmsOrDie(properties.getConfirmTimeout()
+                                                              .toMillis());
+        verify(messageRingCache).onPublished(any(MessageResponse.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void keepsRowsWhenConfirmFails() throws Exception {
+        when(outboxRepository.findBatchForUpdate(2)).thenReturn(List.of(outbox(1L, message(10L, 100L))));
+        doThrow(new AmqpTimeoutException("no confirm")).when(rabbitTemplate)
+                                                       .waitForConfirmsOrDie(anyLong());
+
+        relay.poll();
+
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyCollection());
+        verify(messageRingCache, never()).onPublished(any());
+    }
+
+    @Test
+    void deletesUnreadablePayloadWithoutPublishing() {
+        MessageOutbox invalid = MessageOutbox.builder()
+                                             .routingKey("room.100")
+                                             .payload("{not json")
+                                             .build();
+        invalid.setId(1L);
+        when(outboxRepository.findBatchForUpdate(2)).thenReturn(List.of(invalid));
+
+        relay.poll();
+
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void keepsDrainingWhileBatchesAreFull() throws Exception {
+        when(outboxRepository.findBatchForUpdate(2)).thenReturn(
+                List.of(outbox(1L, message(10L, 100L)), outbox(2L, message(11L, 100L))),
+                List.of(outbox(3L, message(12L, 100L))));
+
+        relay.poll();
+
+        verify(outboxRepository, times(2)).findBatchForUpdate(2);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    private MessageOutbox outbox(Long id, MessageResponse message) throws Exception {
+        MessageOutbox entry = MessageOutbox.builder()
+                                           .routingKey("room." + message.getChannelId())
+                                           .payload(objectMapper.writeValueAsString(message))
+                                           .build();
+        entry.setId(id);
+        return entry;
+    }
+
+    private MessageResponse message(Long id, Long channelId) {
+        return MessageResponse.builder()
+                              .id(id)
+                              .channelId(channelId)
+                              .content("hello")
+                              .build();
+    }
+}
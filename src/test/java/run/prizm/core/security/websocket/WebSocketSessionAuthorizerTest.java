@@ -0,0 +1,196 @@
+package run.prizm.core.security.websocket;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import run.prizm.core.common.exception.BusinessException;
+import run.prizm.core.common.exception.ErrorCode;
+import run.prizm.core.security.jwt.JwtService;
+import run.prizm.core.space.channel.cache.ChannelSnapshot;
+import run.prizm.core.space.channel.cache.ChannelSnapshotCache;
+import run.prizm.core.space.channel.constraint.ChannelType;
+import run.prizm.core.space.channel.permission.ChannelPermission;
+import run.prizm.core.space.channel.permission.ChannelPermissionEngine;
+import run.prizm.core.space.channel.repository.ChannelWorkspaceUserRepository;
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+import run.prizm.core.space.workspace.entity.WorkspaceUser;
+import run.prizm.core.space.workspace.repository.WorkspaceUserRepository;
+import run.prizm.core.storage.redis.CacheInvalidationBus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebSocketSessionAuthorizerTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String SUBSCRIPTION_ID = "sub-0";
+    private static final long USER_ID = 7L;
+    private static final long WORKSPACE_ID = 100L;
+    private static final long WORKSPACE_USER_ID = 70L;
+    private static final long CHAT_CHANNEL_ID = 10L;
+    private static final long DM_CHANNEL_ID = 11L;
+
+    private final JwtService jwtService = mock(JwtService.class);
+    private final WorkspaceUserRepository workspaceUserRepository = mock(WorkspaceUserRepository.class);
+    private final ChannelWorkspaceUserRepository channelWorkspaceUserRepository = mock(ChannelWorkspaceUserRepository.class);
+    private final ChannelSnapshotCache channelSnapshotCache = mock(ChannelSnapshotCache.class);
+    private final ChannelPermissionEngine channelPermissionEngine = mock(ChannelPermissionEngine.class);
+    private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+    private final List<String> revoked = new ArrayList<>();
+    private WebSocketSessionAuthorizer authorizer;
+
+    @BeforeEach
+    void setUp() {
+        authorizer = new WebSocketSessionAuthorizer(jwtService, workspaceUserRepository, channelWorkspaceUserRepository,
+                channelSnapshotCache, channelPermissionEngine, invalidationBus);
+        authorizer.subscribeInvalidation();
+        authorizer.addRevokeListener((sessionId, subscriptionId) -> revoked.add(sessionId + "/" + subscriptionId));
+
+        Claims claims = mock(Claims.class);
+        when(claims.get("id")).thenReturn(USER_ID);
+        when(jwtService.extractClaims("token")).thenReturn(claims);
+        when(channelSnapshotCache.get(CHAT_CHANNEL_ID)).thenReturn(
+                new ChannelSnapshot(CHAT_CHANNEL_ID, WORKSPACE_ID, ChannelType.CHAT, false));
+        when(channelSnapshotCache.get(DM_CHANNEL_ID)).thenReturn(
+                new ChannelSnapshot(DM_CHANNEL_ID, WORKSPACE_ID, ChannelType.DM, false));
+        givenMember(WorkspaceUserRole.MEMBER, false);
+        when(channelWorkspaceUserRepository.findExplicitChannelIdsByWorkspaceUserId(WORKSPACE_USER_ID))
+                .thenReturn(List.of(DM_CHANNEL_ID));
+    }
+
+    @Test
+    void connectRejectsMissingBearerToken() {
+        assertThatThrownBy(() -> authorizer.connect(SESSION_ID, "token"))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED));
+    }
+
+    @Test
+    void connectResolvesUserFromToken() {
+        assertThat(authorizer.connect(SESSION_ID, "Bearer token")
+                             .userId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void subscribeRequiresReadAndCachesMembership() {
+        authorizer.connect(SESSION_ID, "Bearer token");
+        givenChatPermission(ChannelPermission.READ);
+
+        authorizer.authorizeSubscribe(SESSION_ID, SUBSCRIPTION_ID, CHAT_CHANNEL_ID);
+        authorizer.authorizeRead(SESSION_ID, CHAT_CHANNEL_ID);
+
+        verify(workspaceUserRepository, times(1)).findByWorkspaceIdAndUserIdAndDeletedAtIsNull(WORKSPACE_ID, USER_ID);
+        assertThatThrownBy(() -> authorizer.authorizeSend(SESSION_ID, CHAT_CHANNEL_ID))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CHANNEL_ACCESS_DENIED));
+    }
+
+    @Test
+    void rejectsUnknownSessionAndBannedMember() {
+        assertThatThrownBy(() -> authorizer.authorizeRead(SESSION_ID, CHAT_CHANNEL_ID))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UNAUTHORIZED));
+
+        authorizer.connect(SESSION_ID, "Bearer token");
+        givenMember(WorkspaceUserRole.MEMBER, true);
+        givenChatPermission(ChannelPermission.MANAGE);
+
+        assertThatThrownBy(() -> authorizer.authorizeRead(SESSION_ID, CHAT_CHANNEL_ID))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void nonChatChannelsRequireExplicitParticipation() {
+        authorizer.connect(SESSION_ID, "Bearer token");
+
+        assertThat(authorizer.authorizeSend(SESSION_ID, DM_CHANNEL_ID)).isEqualTo(WORKSPACE_USER_ID);
+    }
+
+    @Test
+    void permissionInvalidationRevokesSubscriptionsThatLostAccess() {
+        authorizer.connect(SESSION_ID, "Bearer token");
+        givenChatPermission(ChannelPermission.READ);
+        authorizer.authorizeSubscribe(SESSION_ID, SUBSCRIPTION_ID, CHAT_CHANNEL_ID);
+
+        givenChatPermission(ChannelPermission.NONE);
+        invalidationListener("channelPermission").accept(String.valueOf(WORKSPACE_ID));
+
+        assertThat(revoked).containsExactly(SESSION_ID + "/" + SUBSCRIPTION_ID);
+    }
+
+    @Test
+    void memberInvalidationKeepsSubscriptionsThatStillPass() {
+        authorizer.connect(SESSION_ID, "Bearer token");
+        givenChatPermission(ChannelPermission.READ);
+        authorizer.authorizeSubscribe(SESSION_ID, SUBSCRIPTION_ID, CHAT_CHANNEL_ID);
+
+        invalidationListener("workspaceUserSnapshot").accept(String.valueOf(WORKSPACE_USER_ID));
+
+        assertThat(revoked).isEmpty();
+        // 비운 멤버십은 다시 판정하면서 새로 읽는다
+        verify(workspaceUserRepository, times(2)).findByWorkspaceIdAndUserIdAndDeletedAtIsNull(WORKSPACE_ID, USER_ID);
+    }
+
+    @Test
+    void kickedMemberLosesSubscriptionsOnInvalidation() {
+        authorizer.connect(SESSION_ID, "Bearer token");
+        givenChatPermission(ChannelPermission.READ);
+        authorizer.authorizeSubscribe(SESSION_ID, SUBSCRIPTION_ID, CHAT_CHANNEL_ID);
+
+        when(workspaceUserRepository.findByWorkspaceIdAndUserIdAndDeletedAtIsNull(WORKSPACE_ID, USER_ID))
+                .thenReturn(Optional.empty());
+        invalidationListener("workspaceUserSnapshot").accept(String.valueOf(WORKSPACE_USER_ID));
+
+        assertThat(revoked).containsExactly(SESSION_ID + "/" + SUBSCRIPTION_ID);
+        assertThatCode(() -> invalidationListener("channelPermission").accept(String.valueOf(WORKSPACE_ID)))
+                .doesNotThrowAnyException();
+        assertThat(revoked).hasSize(1);
+    }
+
+    @Test
+    void unsubscribedSubscriptionsAreNotRechecked() {
+        authorizer.connect(SESSION_ID, "Bearer token");
+        givenChatPermission(ChannelPermission.READ);
+        authorizer.authorizeSubscribe(SESSION_ID, SUBSCRIPTION_ID, CHAT_CHANNEL_ID);
+        authorizer.unsubscribe(SESSION_ID, SUBSCRIPTION_ID);
+
+        givenChatPermission(ChannelPermission.NONE);
+        invalidationListener("channelPermission").accept(String.valueOf(WORKSPACE_ID));
+
+        assertThat(revoked).isEmpty();
+    }
+
+    private void givenMember(WorkspaceUserRole role, boolean banned) {
+        WorkspaceUser workspaceUser = WorkspaceUser.builder()
+                                                   .role(role)
+                                                   .banned(banned)
+                                                   .build();
+        workspaceUser.setId(WORKSPACE_USER_ID);
+        when(workspaceUserRepository.findByWorkspaceIdAndUserIdAndDeletedAtIsNull(WORKSPACE_ID, USER_ID))
+                .thenReturn(Optional.of(workspaceUser));
+    }
+
+    private void givenChatPermission(ChannelPermission permission) {
+        when(channelPermissionEngine.getPermission(WORKSPACE_ID, WORKSPACE_USER_ID, WorkspaceUserRole.MEMBER,
+                CHAT_CHANNEL_ID)).thenReturn(permission);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<String> invalidationListener(String cacheName) {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(cacheName), listener.capture());
+        return listener.getValue();
+    }
+}
@@ -0,0 +1,95 @@
+package run.prizm.core.space.channel.permission;
+
+import org.junit.jupiter.api.Test;
+import run.prizm.core.space.group.constraint.GroupChannelPermission;
+import run.prizm.core.space.workspace.constraint.WorkspaceUserRole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelPermissionTableTest {
+
+    private static final long OWNER = 1L;
+    private static final long MEMBER = 2L;
+    private static final long GUEST = 3L;
+    private static final long OUTSIDER = 4L;
+
+    private final List<WorkspaceMemberRole> roles = List.of(
+            new WorkspaceMemberRole(OWNER, WorkspaceUserRole.OWNER),
+            new WorkspaceMemberRole(MEMBER, WorkspaceUserRole.MEMBER),
+            new WorkspaceMemberRole(GUEST, WorkspaceUserRole.GUEST),
+            new WorkspaceMemberRole(OUTSIDER, WorkspaceUserRole.MEMBER));
+
+    @Test
+    void managersGetManageOnEveryChatChannelOnly() {
+        ChannelPermissionTable table = ChannelPermissionTable.build(List.of(10L, 20L), List.of(), List.of(), roles);
+
+        assertThat(table.managerPermission(10L)).isEqualTo(ChannelPermission.MANAGE);
+        assertThat(table.managerPermission(20L)).isEqualTo(ChannelPermission.MANAGE);
+        assertThat(table.managerPermission(30L)).isEqualTo(ChannelPermission.NONE);
+        assertThat(table.managerPermissions()).containsOnlyKeys(10L, 20L);
+    }
+
+    @Test
+    void memberGetsHighestGrantAcrossGroups() {
+        ChannelPermissionTable table = ChannelPermissionTable.build(List.of(10L, 20L), List.of(
+                new ChannelGrant(MEMBER, 10L, GroupChannelPermission.READ),
+                new ChannelGrant(MEMBER, 10L, GroupChannelPermission.WRITE),
+                new ChannelGrant(MEMBER, 20L, GroupChannelPermission.MANAGE),
+                new ChannelGrant(MEMBER, 20L, GroupChannelPermission.READ)), List.of(), roles);
+
+        assertThat(table.memberPermission(MEMBER, 10L)).isEqualTo(ChannelPermission.WRITE);
+        assertThat(table.memberPermission(MEMBER, 20L)).isEqualTo(ChannelPermission.MANAGE);
+        assertThat(table.memberPermission(OUTSIDER, 10L)).isEqualTo(ChannelPermission.NONE);
+        assertThat(table.memberPermissions(OUTSIDER)).isEmpty();
+    }
+
+    @Test
+    void guestSeesOnlyExplicitChannels() {
+        ChannelPermissionTable table = ChannelPermissionTable.build(List.of(10L, 20L), List.of(), List.of(
+                new ChannelGrant(GUEST, 20L, GroupChannelPermission.WRITE)), roles);
+
+        assertThat(table.guestPermission(GUEST, 10L)).isEqualTo(ChannelPermission.NONE);
+        assertThat(table.guestPermission(GUEST, 20L)).isEqualTo(ChannelPermission.WRITE);
+        assertThat(table.guestPermissions(GUEST)).isEqualTo(Map.of(20L, ChannelPermission.WRITE));
+    }
+
+    @Test
+    void packsChannelsAcrossWordBoundariesWithoutBleeding() {
+        // 채널당 2bit 이므로 long 하나에 32 채널, word 경계의 ordinal 31 / 32, 63 / 64 가 서로 영향을 주지 않아야 한다
+        List<Long> channelIds = LongStream.rangeClosed(1, 70)
+                                          .boxed()
+                                          .toList();
+        ChannelPermissionTable table = ChannelPermissionTable.build(channelIds, List.of(
+                new ChannelGrant(MEMBER, 32L, GroupChannelPermission.MANAGE),
+                new ChannelGrant(MEMBER, 33L, GroupChannelPermission.READ),
+                new ChannelGrant(MEMBER, 64L, GroupChannelPermission.WRITE),
+                new ChannelGrant(MEMBER, 65L, GroupChannelPermission.MANAGE)), List.of(), roles);
+
+        assertThat(table.memberPermission(MEMBER, 31L)).isEqualTo(ChannelPermission.NONE);
+        assertThat(table.memberPermission(MEMBER, 32L)).isEqualTo(ChannelPermission.MANAGE);
+        assertThat(table.memberPermission(MEMBER, 33L)).isEqualTo(ChannelPermission.READ);
+        assertThat(table.memberPermission(MEMBER, 34L)).isEqualTo(ChannelPermission.NONE);
+        assertThat(table.memberPermission(MEMBER, 64L)).isEqualTo(ChannelPermission.WRITE);
+        assertThat(table.memberPermission(MEMBER, 65L)).isEqualTo(ChannelPermission.MANAGE);
+        assertThat(table.memberPermissions(MEMBER)).hasSize(4);
+        assertThat(table.managerPermissions()).hasSize(70);
+    }
+
+    @Test
+    void channelMembersIndexMatchesPerMemberLookups() {
+        ChannelPermissionTable table = ChannelPermissionTable.build(List.of(10L, 20L), List.of(
+                new ChannelGrant(MEMBER, 10L, GroupChannelPermission.READ)), List.of(
+                new ChannelGrant(GUEST, 10L, GroupChannelPermission.WRITE)), roles);
+
+        assertThat(table.channelMembers(10L)).isEqualTo(Map.of(
+                OWNER, ChannelPermission.MANAGE,
+                MEMBER, ChannelPermission.READ,
+                GUEST, ChannelPermission.WRITE));
+        assertThat(table.channelMembers(20L)).isEqualTo(Map.of(OWNER, ChannelPermission.MANAGE));
+        assertThat(table.channelMembers(99L)).isEmpty();
+    }
+}